@@ -0,0 +1,92 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Microbenchmarks of the batch move engines using JMH (run with: make bench)
+ */
+
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import src.controller.BatchMoveEngine;
+import src.controller.BoardManager;
+import src.controller.ScalarMoveEngine;
+import src.controller.VectorMoveEngine;
+import src.model.BoardBatchT;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class BatchBenchmark {
+  private static final int BOARDS = 1024;
+
+  @Param({ "4", "8" })
+  public int size;
+
+  @Param({ "LEFT", "UP" })
+  public DirectionT direction;
+
+  private BoardBatchT batch;
+  private BoardBatchT out;
+  private BoardT[] boards;
+  private BoardT board;
+  private int[] points;
+  private boolean[] changed;
+  private BatchMoveEngine scalar;
+  private BatchMoveEngine vector;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    SplittableRandom rand = new SplittableRandom(1024);
+    batch = new BoardBatchT(size, BOARDS);
+    out = new BoardBatchT(size, BOARDS);
+    boards = new BoardT[BOARDS];
+    for (int k = 0; k < BOARDS; k++) {
+      boards[k] = new BoardT(size);
+      for (int j = 0; j < size; j++) {
+        for (int i = 0; i < size; i++) {
+          int exponent = rand.nextInt(6);
+          boards[k].setTile(i, j, exponent == 0 ? 0 : 1 << exponent);
+        }
+      }
+      batch.add(boards[k]);
+    }
+    board = new BoardT(size);
+    points = new int[BOARDS];
+    changed = new boolean[BOARDS];
+    scalar = new ScalarMoveEngine();
+    vector = new VectorMoveEngine();
+  }
+
+  // each operation moves every board of the batch once
+  @Benchmark
+  @OperationsPerInvocation(BOARDS)
+  public int boardManager() {
+    int score = 0;
+    for (BoardT b : boards) {
+      score += BoardManager.move(b, direction, board);
+    }
+    return score;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BOARDS)
+  public int[] scalarEngine() {
+    scalar.move(batch, direction, out, points, changed);
+    return points;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BOARDS)
+  public int[] vectorEngine() {
+    vector.move(batch, direction, out, points, changed);
+    return points;
+  }
+}
@@ -0,0 +1,211 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Microbenchmarks of the game engine using JMH (run with: make bench)
+ */
+
+package bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import src.ai.HeuristicEvaluator;
+import src.controller.BitBoardManager;
+import src.controller.BoardManager;
+import src.controller.Controller;
+import src.model.BitBoard;
+import src.model.BoardSymmetry;
+import src.model.BoardT;
+import src.model.DirectionT;
+import src.model.MoveResultT;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+
+  @Param({ "empty", "checkerboard", "nearFull", "gameOver" })
+  public String board;
+
+  @Param({ "LEFT", "UP" })
+  public DirectionT direction;
+
+  private BoardT tiles;
+  private BoardT out;
+  private long packed;
+  private long[] packedBatch;
+  private long[] packedOut;
+  private int[] batchPoints;
+  private boolean[] batchChanged;
+  private SplittableRandom rand;
+  private HeuristicEvaluator evaluator;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    tiles = generateBoard(board);
+    out = new BoardT();
+    packed = BitBoard.pack(tiles);
+    packedBatch = new long[1024];
+    Arrays.fill(packedBatch, packed);
+    packedOut = new long[1024];
+    batchPoints = new int[1024];
+    batchChanged = new boolean[1024];
+    rand = new SplittableRandom(2048);
+    evaluator = new HeuristicEvaluator();
+  }
+
+  @Setup(Level.Iteration)
+  public void resumeGame() {
+    Controller.resumeGame(tiles, 0, 0);
+  }
+
+  @State(Scope.Thread)
+  public static class ResumedGame {
+
+    @Setup(Level.Invocation)
+    public void resumeGame(EngineBenchmark benchmark) {
+      Controller.resumeGame(benchmark.tiles, 0, 0);
+    }
+  }
+
+  @Benchmark
+  public BoardT merge() {
+    return BoardManager.merge(tiles, direction);
+  }
+
+  @Benchmark
+  public BoardT align() {
+    return BoardManager.align(tiles, direction);
+  }
+
+  @Benchmark
+  public int scoreFromMerge() {
+    return BoardManager.scoreFromMerge(tiles, direction);
+  }
+
+  @Benchmark
+  public MoveResultT move() {
+    return BoardManager.move(tiles, direction);
+  }
+
+  @Benchmark
+  public int moveInto() {
+    return BoardManager.move(tiles, direction, out);
+  }
+
+  @Benchmark
+  public BoardT addRandomTile() {
+    if (tiles.isFull()) {
+      return tiles;
+    }
+    return BoardManager.addRandomTile(tiles);
+  }
+
+  @Benchmark
+  public int addRandomTileInto() {
+    if (tiles.isFull()) {
+      return -1;
+    }
+    return BoardManager.addRandomTile(tiles, rand, out);
+  }
+
+  // a turn of the GUI: the board is restored so that every invocation moves
+  // the same board, then the move is made if it is legal
+  @Benchmark
+  public boolean controllerMove() {
+    Controller.resumeGame(tiles, 0, 0);
+    if (Controller.canMove(direction)) {
+      Controller.move(direction);
+      return true;
+    }
+    return false;
+  }
+
+  // the game is resumed before every invocation, so the legal moves are
+  // computed again from the board rather than read from the session's cache
+  @Benchmark
+  public boolean controllerIsGameOver(ResumedGame game) {
+    return Controller.isGameOver();
+  }
+
+  // the legal moves cached by the session after the first call
+  @Benchmark
+  public boolean controllerIsGameOverCached() {
+    return Controller.isGameOver();
+  }
+
+  @Benchmark
+  public long bitBoardMove() {
+    return BitBoardManager.move(packed, direction);
+  }
+
+  // the board moved as one element of an array of 1024 (reported per board)
+  @Benchmark
+  @OperationsPerInvocation(1024)
+  public long[] bitBoardMoveBatch() {
+    BitBoardManager.move(packedBatch, direction, packedOut, batchPoints, batchChanged);
+    return packedOut;
+  }
+
+  @Benchmark
+  public float heuristicEvaluate() {
+    return evaluator.evaluate(packed);
+  }
+
+  @Benchmark
+  public long bitBoardCanonical() {
+    return BoardSymmetry.canonical(packed);
+  }
+
+  @Benchmark
+  public boolean bitBoardIsGameOver() {
+    return BitBoardManager.isGameOver(packed);
+  }
+
+  static BoardT generateBoard(String name) {
+    int[][] rows;
+    switch (name) {
+      case "empty":
+        rows = new int[4][4];
+        break;
+      case "checkerboard":
+        rows = new int[][] {
+          { 2, 0, 4, 0 },
+          { 0, 8, 0, 2 },
+          { 4, 0, 2, 0 },
+          { 0, 2, 0, 8 },
+        };
+        break;
+      case "nearFull":
+        rows = new int[][] {
+          { 2, 2, 4, 8 },
+          { 16, 32, 32, 4 },
+          { 2, 8, 16, 64 },
+          { 128, 4, 4, 0 },
+        };
+        break;
+      case "gameOver":
+        rows = new int[][] {
+          { 2, 4, 2, 4 },
+          { 4, 2, 4, 2 },
+          { 2, 4, 2, 4 },
+          { 4, 2, 4, 2 },
+        };
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown board: " + name);
+    }
+    BoardT board = new BoardT();
+    for (int j = 0; j < 4; j++) {
+      for (int i = 0; i < 4; i++) {
+        board.setTile(i, j, rows[j][i]);
+      }
+    }
+    return board;
+  }
+}
@@ -0,0 +1,70 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Macrobenchmarks of whole games using JMH (run with: make bench)
+ */
+
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import src.controller.BitBoardManager;
+import src.controller.GameSession;
+import src.controller.RandomPolicy;
+import src.controller.SimulationRunner;
+import src.model.DirectionT;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+  private static final DirectionT[] DIRECTIONS = DirectionT.values();
+
+  private SplittableRandom seeds;
+  private SplittableRandom rand;
+  private RandomPolicy policy;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    seeds = new SplittableRandom(2048);
+    rand = new SplittableRandom(4096);
+    policy = new RandomPolicy();
+  }
+
+  // a random game played through GameSession, as SimulationRunner plays it
+  @Benchmark
+  public int sessionGame() {
+    GameSession session = new GameSession(seeds.nextLong());
+    SimulationRunner.playGame(session, policy, rand);
+    return session.getScore();
+  }
+
+  // the same game played on packed boards using BitBoardManager
+  @Benchmark
+  public int bitBoardGame() {
+    long board = BitBoardManager.addRandomTile(BitBoardManager.addRandomTile(0L, rand), rand);
+    int score = 0;
+    while (true) {
+      int legal = 0;
+      for (int d = 0; d < DIRECTIONS.length; d++) {
+        if (BitBoardManager.canMove(board, DIRECTIONS[d])) {
+          legal |= 1 << d;
+        }
+      }
+      if (legal == 0) {
+        return score;
+      }
+      for (int n = rand.nextInt(Integer.bitCount(legal)); n > 0; n--) {
+        legal &= legal - 1;
+      }
+      DirectionT direction = DIRECTIONS[Integer.numberOfTrailingZeros(legal)];
+      score += BitBoardManager.scoreFromMove(board, direction);
+      board = BitBoardManager.addRandomTile(BitBoardManager.move(board, direction), rand);
+    }
+  }
+}
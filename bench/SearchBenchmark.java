@@ -0,0 +1,113 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Benchmarks of the expectimax search agents using JMH (run with: make bench)
+ */
+
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import src.ai.ExpectimaxAgent;
+import src.ai.HeuristicEvaluator;
+import src.ai.ParallelExpectimaxAgent;
+import src.ai.TranspositionTable;
+import src.controller.BoardManager;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+// the nodes per second of each search are the nodes counter divided by the
+// time per operation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+  // the order of the moves of the game that builds the midgame board, which
+  // keeps the largest tiles in the top-left corner
+  private static final DirectionT[] MOVE_ORDER = new DirectionT[] {
+    DirectionT.UP,
+    DirectionT.LEFT,
+    DirectionT.RIGHT,
+    DirectionT.DOWN,
+  };
+
+  @Param({ "1", "2", "4", "8", "16", "32" })
+  public int threads;
+
+  @Param({ "6" })
+  public int depth;
+
+  private long board;
+  private TranspositionTable table;
+  private ExpectimaxAgent sequential;
+  private ParallelExpectimaxAgent parallel;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Nodes {
+    public long nodes;
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    board = BitBoard.pack(midgameBoard(300, new SplittableRandom(2048)));
+    table = new TranspositionTable(22);
+    sequential = new ExpectimaxAgent(depth, Long.MAX_VALUE, table, new HeuristicEvaluator());
+    parallel = new ParallelExpectimaxAgent(threads, depth, table, new HeuristicEvaluator());
+  }
+
+  // every search starts from an empty table, as the first search of a move
+  // in a game would
+  @Setup(Level.Invocation)
+  public void clearTable() {
+    table.clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    parallel.shutdown();
+  }
+
+  @Benchmark
+  public DirectionT sequentialSearch(Nodes nodes) {
+    DirectionT move = sequential.bestMove(board);
+    nodes.nodes += sequential.getNodes();
+    return move;
+  }
+
+  @Benchmark
+  public DirectionT parallelSearch(Nodes nodes) {
+    DirectionT move = parallel.bestMove(board);
+    nodes.nodes += parallel.getNodes();
+    return move;
+  }
+
+  // the board after the given number of moves (or the last move before the
+  // board is full) of a game played in MOVE_ORDER using BoardManager
+  private static BoardT midgameBoard(int moves, SplittableRandom rand) {
+    BoardT board = new BoardT();
+    BoardManager.addRandomTile(board, rand, board);
+    BoardManager.addRandomTile(board, rand, board);
+    BoardT next = new BoardT();
+    for (int m = 0; m < moves; m++) {
+      boolean moved = false;
+      for (DirectionT direction : MOVE_ORDER) {
+        if (BoardManager.move(board, direction, next) != BoardManager.UNCHANGED) {
+          moved = true;
+          break;
+        }
+      }
+      if (!moved || Long.bitCount(next.emptyMask()) < 2) {
+        break;
+      }
+      BoardManager.addRandomTile(next, rand, board);
+    }
+    return board;
+  }
+}
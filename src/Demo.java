@@ -1,6 +1,6 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 12, 2021
+ * Revised: October 18, 2026
  *
  * Description: Demo Module (Run this file by using the command: make demo)
  */
@@ -25,14 +25,15 @@ public class Demo {
    * @details Choose to either initialize a new game of 2048 or resume/continue a
    *          previous game based on a user-defined configuration of the board
    *          (must explicitly comment/uncomment selection).
-   * @param args
+   * @param args Optional argument: the width/height of the board of a new game
+   *             from 3 to 8 (default 4).
    */
   public static void main(String[] args) {
     /**
      * 1) Initialize and display a new game of 2048.
      */
 
-    Controller.newGame();
+    Controller.newGame(args.length > 0 ? Integer.parseInt(args[0]) : 4);
     View.display();
     /**
      * 2) Resume/restore a previous game of 2048.
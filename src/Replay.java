@@ -0,0 +1,62 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Replay Module (Run this file by using the command: make replay)
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import src.controller.ReplayReader;
+import src.model.BitBoard;
+
+/**
+ * @brief A library containing a single method for replaying every game of a
+ *        replay log and printing their statistics.
+ */
+public class Replay {
+
+  /**
+   * @brief Replay every game of a replay log and print the number of games and
+   *        turns, the scores and the throughput.
+   * @param args The replay log to read.
+   * @throws IOException If the replay log cannot be read.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.out.println("usage: make replay ARGS=\"<replay log>\"");
+      return;
+    }
+    ReplayReader reader = new ReplayReader(Paths.get(args[0]));
+    long games = 0;
+    long turns = 0;
+    long totalScore = 0;
+    int maxScore = 0;
+    int maxExponent = 0;
+    long start = System.nanoTime();
+    while (reader.nextGame()) {
+      games++;
+      turns += reader.getTurns();
+      totalScore += reader.getFinalScore();
+      maxScore = Math.max(maxScore, reader.getFinalScore());
+      maxExponent = Math.max(maxExponent, BitBoard.maxExponent(reader.getFinalBoard()));
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    System.out.printf("games: %d, turns: %d%n", games, turns);
+    System.out.printf(
+      "score: mean %.1f, max %d, max tile %d%n",
+      games == 0 ? 0.0 : (double) totalScore / games,
+      maxScore,
+      BitBoard.toValue(maxExponent)
+    );
+    System.out.printf(
+      "games per second: %.1f, turns per second: %.1f%n",
+      games / seconds,
+      turns / seconds
+    );
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Simulate Module (Run this file by using the command: make simulate)
+ */
+
+package src;
+
+import java.util.Map;
+
+import src.controller.RandomPolicy;
+import src.controller.SimulationRunner;
+import src.model.SimulationStatsT;
+
+/**
+ * @brief A library containing a single method for playing a batch of headless
+ *        games of 2048 and printing their statistics.
+ */
+public class Simulate {
+
+  /**
+   * @brief Play a batch of games using the random policy and print the score
+   *        distribution, the largest tile histogram and the throughput.
+   * @param args Optional arguments: the number of games (default 1000), the
+   *             number of threads (default all cores), the master seed
+   *             (default 2048) and the width/height of the board (default 4).
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    int threads = args.length > 1
+      ? Integer.parseInt(args[1])
+      : Runtime.getRuntime().availableProcessors();
+    long seed = args.length > 2 ? Long.parseLong(args[2]) : 2048;
+    int size = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+
+    SimulationRunner runner = new SimulationRunner(threads);
+    SimulationStatsT stats = runner.run(games, size, seed, RandomPolicy::new);
+    runner.shutdown();
+
+    System.out.printf(
+      "games: %d (%dx%d, %d threads, seed %d)%n",
+      games,
+      size,
+      size,
+      threads,
+      seed
+    );
+    System.out.printf(
+      "score: mean %.1f, p50 %d, p90 %d, max %d%n",
+      stats.getMeanScore(),
+      stats.getScorePercentile(50),
+      stats.getScorePercentile(90),
+      stats.getScorePercentile(100)
+    );
+    System.out.printf("moves per game: %.1f%n", stats.getMeanMoves());
+    System.out.printf("games per second: %.1f%n", stats.getGamesPerSecond());
+    for (Map.Entry<Integer, Integer> entry : stats.getMaxTileHistogram().entrySet()) {
+      System.out.printf("max tile %5d: %d%n", entry.getKey(), entry.getValue());
+    }
+  }
+}
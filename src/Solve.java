@@ -0,0 +1,63 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Solve Module (Run this file by using the command: make solve)
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import src.ai.Tablebase;
+
+/**
+ * @brief A library containing a single method for generating the tablebase of a
+ *        small variant of the game and printing the win probability of a new
+ *        game.
+ */
+public class Solve {
+
+  /**
+   * @brief Generate a tablebase and print the probability of reaching the target
+   *        tile from a new game with perfect play, and the time taken.
+   * @param args The size of the board (3 or 4), the exponent of the target tile
+   *             and the tablebase file to write.
+   * @throws IOException If the tablebase file cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      System.out.println("usage: make solve ARGS=\"<size> <target exponent> <tablebase file>\"");
+      return;
+    }
+    int size = Integer.parseInt(args[0]);
+    int target = Integer.parseInt(args[1]);
+    long start = System.nanoTime();
+    Tablebase tablebase = Tablebase.generate(size, target, Paths.get(args[2]));
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    // a new game starts with two random tiles on an empty board
+    int cells = size * size;
+    double win = 0;
+    for (int p = 0; p < cells; p++) {
+      for (int q = 0; q < cells; q++) {
+        if (p == q) {
+          continue;
+        }
+        for (long first = 1; first <= 2; first++) {
+          for (long second = 1; second <= 2; second++) {
+            double probability = (first == 1 ? 0.9 : 0.1) * (second == 1 ? 0.9 : 0.1) / (cells * (cells - 1));
+            long board = (first << (p << 2)) | (second << (q << 2));
+            win += probability * tablebase.winProbability(board);
+          }
+        }
+      }
+    }
+
+    System.out.printf("%dx%d board, target tile %d%n", size, size, 1 << target);
+    System.out.printf("%d positions%n", tablebase.getPositions());
+    System.out.printf("win probability of a new game: %.6f%n", win);
+    System.out.printf("generated in %.1f seconds%n", seconds);
+  }
+}
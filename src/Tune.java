@@ -0,0 +1,84 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Tune Module (Run this file by using the command: make tune)
+ */
+
+package src;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import src.ai.HeuristicEvaluator;
+import src.ai.WeightTuner;
+
+/**
+ * @brief A library containing a single method for tuning the weights of the
+ *        heuristic evaluation with CMA-ES and printing the progress.
+ */
+public class Tune {
+
+  /**
+   * @brief Tune the weights for a number of generations, saving a checkpoint
+   *        after every generation, and print the fitness of every generation
+   *        and the best weights found.
+   * @details If the checkpoint file exists, the tuning resumes from it (and the
+   *          population, step size and seed arguments are ignored). Otherwise
+   *          it starts from the default weights of HeuristicEvaluator.
+   * @param args The checkpoint file, and optionally the number of generations
+   *             (default 100), the number of games per candidate (default
+   *             1000), the population (default 16), the number of threads
+   *             (default all cores), the initial step size (default 0.3) and the
+   *             seed (default 2048).
+   * @throws IOException If the checkpoint file cannot be read or written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.out.println(
+        "usage: make tune ARGS=\"<checkpoint file> [generations] [games] [population] [threads] [sigma] [seed]\""
+      );
+      return;
+    }
+    Path checkpoint = Paths.get(args[0]);
+    int generations = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int games = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+    int population = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+    int threads = args.length > 4
+      ? Integer.parseInt(args[4])
+      : Runtime.getRuntime().availableProcessors();
+    double sigma = args.length > 5 ? Double.parseDouble(args[5]) : 0.3;
+    long seed = args.length > 6 ? Long.parseLong(args[6]) : 2048;
+
+    WeightTuner tuner = Files.exists(checkpoint)
+      ? new WeightTuner(checkpoint, threads)
+      : new WeightTuner(HeuristicEvaluator.getDefaultWeights(), sigma, population, seed, threads);
+    System.out.printf("starting at generation %d (%d threads)%n", tuner.getGeneration(), threads);
+
+    for (int g = 0; g < generations; g++) {
+      long start = System.nanoTime();
+      double[] fitness = tuner.step(games);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      tuner.save(checkpoint);
+      System.out.printf(
+        "generation %d: best %.1f, mean %.1f, sigma %.4f, %.0f games per second%n",
+        tuner.getGeneration(),
+        Arrays.stream(fitness).max().getAsDouble(),
+        Arrays.stream(fitness).average().getAsDouble(),
+        tuner.getSigma(),
+        fitness.length * games / seconds
+      );
+      System.out.printf("  mean weights: %s%n", Arrays.toString(tuner.getWeights()));
+    }
+    tuner.shutdown();
+
+    System.out.printf(
+      "best weights: %s (mean score %.1f)%n",
+      Arrays.toString(tuner.getBestWeights()),
+      tuner.getBestFitness()
+    );
+  }
+}
@@ -0,0 +1,255 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BeamSearchAgent Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoardManager;
+import src.controller.MovePolicy;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that chooses moves by planning many moves ahead with a beam
+ *        search over packed boards (see the BitBoard module).
+ * @details The beam holds at most WIDTH boards. On each ply, every move of
+ *          every board in the beam is followed by a number of random tiles
+ *          sampled as in BitBoardManager.addRandomTile, and the WIDTH distinct
+ *          resulting boards with the highest static evaluation (by a
+ *          HeuristicEvaluator object) become the next beam. Each board
+ *          remembers the first move of its line of play, and after the last
+ *          ply (or once no board in the beam can move) the first move of the
+ *          best board in the beam is chosen. Unlike an expectimax search, only
+ *          a sample of the random tiles is followed, so the cost of a search is
+ *          linear in its horizon and lines of play tens of moves long (e.g.
+ *          keeping the largest tile in a corner) can be compared. The beam and
+ *          its candidates are stored in primitive arrays allocated once, so a
+ *          search does not allocate. A BeamSearchAgent object is not safe to
+ *          share between threads.
+ */
+public class BeamSearchAgent implements MovePolicy {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+
+    /**
+     * @brief The largest number of boards kept on each ply.
+     */
+    public final int WIDTH;
+
+    private final int horizon;
+    private final int samples;
+    private final HeuristicEvaluator evaluator;
+
+    private final long[] beamBoards;
+    private final byte[] beamMoves;
+    private final long[] boards;
+    private final float[] values;
+    private final byte[] moves;
+    // an open-addressing set of the candidates of the current ply, where a
+    // slot is in the set only if its stamp is the current ply's
+    private final long[] seen;
+    private final int[] stamps;
+    private int stamp;
+    private int lastDepth;
+
+    /**
+     * @brief Initializes a BeamSearchAgent object that evaluates boards with the
+     *        default weights of HeuristicEvaluator.
+     * @param width   The largest number of boards kept on each ply.
+     * @param horizon The number of moves to plan ahead.
+     * @param samples The number of random tiles sampled after each move.
+     * @throws IllegalArgumentException If the width, horizon or number of
+     *                                  samples is less than 1.
+     */
+    public BeamSearchAgent(int width, int horizon, int samples) {
+        this(width, horizon, samples, new HeuristicEvaluator());
+    }
+
+    /**
+     * @brief Initializes a BeamSearchAgent object that evaluates boards with the
+     *        given evaluator.
+     * @param width     The largest number of boards kept on each ply.
+     * @param horizon   The number of moves to plan ahead.
+     * @param samples   The number of random tiles sampled after each move.
+     * @param evaluator The static evaluation that ranks the boards.
+     * @throws IllegalArgumentException If the width, horizon or number of
+     *                                  samples is less than 1.
+     */
+    public BeamSearchAgent(int width, int horizon, int samples, HeuristicEvaluator evaluator) {
+        if (width < 1 || horizon < 1 || samples < 1) {
+            throw new IllegalArgumentException("The width, horizon and number of samples must be at least 1.");
+        }
+        this.WIDTH = width;
+        this.horizon = horizon;
+        this.samples = samples;
+        this.evaluator = evaluator;
+        int candidates = width * DIRECTIONS.length * samples;
+        beamBoards = new long[width];
+        beamMoves = new byte[width];
+        boards = new long[candidates];
+        values = new float[candidates];
+        moves = new byte[candidates];
+        seen = new long[Integer.highestOneBit(candidates) << 2];
+        stamps = new int[seen.length];
+    }
+
+    /**
+     * @brief Choose the best move for the given board.
+     * @param board The board to search from.
+     * @param rand  The source of randomness used to seed the sampled tiles.
+     * @return The first move of the best board in the beam.
+     * @throws IllegalArgumentException If the board cannot be packed.
+     * @throws IllegalStateException    If no move changes the board.
+     */
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        return bestMove(BitBoard.pack(board), rand.nextLong());
+    }
+
+    /**
+     * @brief Choose the best move for the given packed board.
+     * @param board The packed board to search from.
+     * @param seed  The seed of the sampled random tiles. Searches with the same
+     *              board and seed choose the same move.
+     * @return The first move of the best board in the beam.
+     * @throws IllegalStateException If no move changes the board.
+     */
+    public DirectionT bestMove(long board, long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        int size = 1;
+        beamBoards[0] = board;
+        beamMoves[0] = -1;
+        lastDepth = 0;
+        for (int ply = 0; ply < horizon; ply++) {
+            int count = expand(size, rand);
+            if (count == 0) {
+                break;
+            }
+            size = select(count);
+            for (int b = 0; b < size; b++) {
+                beamBoards[b] = boards[b];
+                beamMoves[b] = moves[b];
+            }
+            lastDepth = ply + 1;
+        }
+        if (lastDepth == 0) {
+            throw new IllegalStateException("Cannot move when game is over.");
+        }
+        // the beam is in no particular order after the last selection
+        int best = 0;
+        for (int b = 1; b < size; b++) {
+            if (values[b] > values[best]) {
+                best = b;
+            }
+        }
+        return DIRECTIONS[beamMoves[best]];
+    }
+
+    /**
+     * @brief Get the number of plies searched by the last call to bestMove.
+     * @return The number of plies, which is less than the horizon if no board
+     *         in the beam could move.
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    // writes the distinct boards after every move and sampled tile of the beam
+    // to the candidates, returning their number
+    private int expand(int size, SplittableRandom rand) {
+        if (++stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        int count = 0;
+        for (int b = 0; b < size; b++) {
+            long board = beamBoards[b];
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                long after = BitBoardManager.move(board, DIRECTIONS[d]);
+                if (after == board) {
+                    continue;
+                }
+                byte first = beamMoves[b] < 0 ? (byte) d : beamMoves[b];
+                for (int s = 0; s < samples; s++) {
+                    long next = BitBoardManager.addRandomTile(after, rand);
+                    if (add(next)) {
+                        boards[count] = next;
+                        values[count] = evaluator.evaluate(next);
+                        moves[count] = first;
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    // adds the board to the set of candidates, returning false if it is
+    // already in the set
+    private boolean add(long board) {
+        int mask = seen.length - 1;
+        for (int slot = (int) TranspositionTable.hash(board) & mask;; slot = (slot + 1) & mask) {
+            if (stamps[slot] != stamp) {
+                stamps[slot] = stamp;
+                seen[slot] = board;
+                return true;
+            }
+            if (seen[slot] == board) {
+                return false;
+            }
+        }
+    }
+
+    // moves the WIDTH candidates with the highest values to the front (in no
+    // particular order) by quickselect, returning the number of boards kept
+    private int select(int count) {
+        if (count <= WIDTH) {
+            return count;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            float pivot = values[(low + high) >>> 1];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values[i] > pivot) {
+                    i++;
+                }
+                while (values[j] < pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (WIDTH - 1 <= j) {
+                high = j;
+            } else if (WIDTH - 1 >= i) {
+                low = i;
+            } else {
+                break;
+            }
+        }
+        return WIDTH;
+    }
+
+    private void swap(int a, int b) {
+        long board = boards[a];
+        boards[a] = boards[b];
+        boards[b] = board;
+        float value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+        byte move = moves[a];
+        moves[a] = moves[b];
+        moves[b] = move;
+    }
+}
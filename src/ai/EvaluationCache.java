@@ -0,0 +1,202 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: EvaluationCache Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @brief An ADT that caches a primitive value (e.g. an evaluation or a search
+ *        result) for packed boards (see the BitBoard module) in a fixed amount
+ *        of memory.
+ * @details The entries are split into buckets of WAYS entries and each board
+ *          maps to one bucket. When a board is stored in a full bucket, an
+ *          entry is evicted using the CLOCK algorithm: a hand sweeps the
+ *          bucket, giving every entry that was read since the hand last passed
+ *          it a second chance, and evicts the first entry that was not. A new
+ *          entry has not been read, so entries that are only stored once are
+ *          evicted before entries that are read again. Each bucket is locked
+ *          while it is read or written, so one cache can be shared by the
+ *          agents of many threads and sessions. The hit, miss and eviction
+ *          counters are LongAdder objects so that they do not contend.
+ */
+public class EvaluationCache {
+    /**
+     * @brief The number of entries of each bucket.
+     */
+    public static final int WAYS = 8;
+
+    private static final int MAX_LOCKS = 1024;
+    private static final byte OCCUPIED = 1;
+    private static final byte REFERENCED = 2;
+
+    private final long[] keys;
+    private final long[] values;
+    private final byte[] flags;
+    // hands[b] is the entry of bucket b that the CLOCK hand points at
+    private final byte[] hands;
+    private final Object[] locks;
+    private final int bucketMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @brief Initializes an empty EvaluationCache object with 2^bits entries.
+     * @param bits The base 2 logarithm of the number of entries.
+     * @throws IllegalArgumentException If bits is not in the range of [3, 30].
+     */
+    public EvaluationCache(int bits) {
+        if (bits < 3 || bits > 30) {
+            throw new IllegalArgumentException("The number of bits must be in the range of [3..30].");
+        }
+        keys = new long[1 << bits];
+        values = new long[1 << bits];
+        flags = new byte[1 << bits];
+        hands = new byte[(1 << bits) / WAYS];
+        bucketMask = hands.length - 1;
+        locks = new Object[Math.min(hands.length, MAX_LOCKS)];
+        for (int l = 0; l < locks.length; l++) {
+            locks[l] = new Object();
+        }
+    }
+
+    /**
+     * @brief Look up the value of the given packed board.
+     * @param board   The packed board.
+     * @param missing The value returned if the board is not in the cache.
+     * @return The value stored for the board, or missing.
+     */
+    public long get(long board, long missing) {
+        int bucket = bucket(board);
+        synchronized (locks[bucket & (locks.length - 1)]) {
+            int start = bucket * WAYS;
+            for (int e = start; e < start + WAYS; e++) {
+                if (flags[e] != 0 && keys[e] == board) {
+                    flags[e] |= REFERENCED;
+                    hits.increment();
+                    return values[e];
+                }
+            }
+        }
+        misses.increment();
+        return missing;
+    }
+
+    /**
+     * @brief Store the value of the given packed board, replacing its previous
+     *        value if it is in the cache.
+     * @param board The packed board.
+     * @param value The value to be stored.
+     */
+    public void put(long board, long value) {
+        int bucket = bucket(board);
+        synchronized (locks[bucket & (locks.length - 1)]) {
+            int start = bucket * WAYS;
+            int free = -1;
+            for (int e = start; e < start + WAYS; e++) {
+                if (flags[e] == 0) {
+                    free = free < 0 ? e : free;
+                } else if (keys[e] == board) {
+                    values[e] = value;
+                    return;
+                }
+            }
+            if (free < 0) {
+                free = evict(bucket);
+            }
+            keys[free] = board;
+            values[free] = value;
+            flags[free] = OCCUPIED;
+        }
+    }
+
+    /**
+     * @brief Look up the float value of the given packed board.
+     * @param board The packed board.
+     * @return The value stored by putFloat for the board, or NaN if the board is
+     *         not in the cache.
+     */
+    public float getFloat(long board) {
+        long bits = get(board, -1L);
+        return bits == -1L ? Float.NaN : Float.intBitsToFloat((int) bits);
+    }
+
+    /**
+     * @brief Store a float value of the given packed board.
+     * @param board The packed board.
+     * @param value The value to be stored.
+     */
+    public void putFloat(long board, float value) {
+        put(board, Float.floatToRawIntBits(value) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @brief Remove every entry from the cache. The counters are not reset.
+     */
+    public void clear() {
+        for (int l = 0; l < locks.length; l++) {
+            synchronized (locks[l]) {
+                for (int bucket = l; bucket <= bucketMask; bucket += locks.length) {
+                    Arrays.fill(flags, bucket * WAYS, (bucket + 1) * WAYS, (byte) 0);
+                    hands[bucket] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * @brief Get the number of entries of the cache.
+     * @return The number of entries.
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * @brief Get the number of lookups that found the board.
+     * @return The number of hits since the cache was created.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @brief Get the number of lookups that did not find the board.
+     * @return The number of misses since the cache was created.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @brief Get the number of entries evicted to store another board.
+     * @return The number of evictions since the cache was created.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // advances the hand of the full bucket to the first entry not read since
+    // the hand last passed it, clearing the flags of those that were
+    private int evict(int bucket) {
+        int start = bucket * WAYS;
+        int hand = hands[bucket];
+        while ((flags[start + hand] & REFERENCED) != 0) {
+            flags[start + hand] &= ~REFERENCED;
+            hand = (hand + 1) % WAYS;
+        }
+        hands[bucket] = (byte) ((hand + 1) % WAYS);
+        evictions.increment();
+        return start + hand;
+    }
+
+    private int bucket(long board) {
+        return (int) TranspositionTable.hash(board) & bucketMask;
+    }
+}
@@ -0,0 +1,348 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ExpectimaxAgent Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoardManager;
+import src.controller.MovePolicy;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that chooses moves using an expectimax search over packed
+ *        boards (see the BitBoard module).
+ * @details MAX nodes try each of the four directions that change the board.
+ *          CHANCE nodes average over every empty tile (uniformly) and the value
+ *          of the random tile, using the probabilities of
+ *          BoardManager.addRandomTile (90% chance of a 2 and 10% chance of a 4).
+ *          The value of a CHANCE node is stored in a TranspositionTable object
+ *          so that it is not searched again when reached by a different move
+ *          order. The search deepens one move at a time up to the given depth,
+ *          and stops once the given number of nodes have been searched, keeping
+ *          the move of the last depth that it completed. Boards where the
+ *          search stops are given a static evaluation by a HeuristicEvaluator
+ *          object. Optionally, the search also stops once a time budget runs
+ *          out, stops at lines of play below a probability cutoff and chooses
+ *          its depth for each board (see setTimeBudget, setProbabilityCutoff
+ *          and setAdaptiveDepth). A ExpectimaxAgent object is not safe to share
+ *          between threads, but its TranspositionTable object is.
+ */
+public class ExpectimaxAgent implements MovePolicy {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final float PROBABILITY_2 = 0.9f;
+    private static final float PROBABILITY_4 = 0.1f;
+
+    private final int depth;
+    private final long nodeBudget;
+    private final TranspositionTable table;
+    private final HeuristicEvaluator evaluator;
+    private EvaluationCache cache;
+    private long timeBudgetNanos;
+    private float probabilityCutoff;
+    private boolean adaptiveDepth;
+    private long nodes;
+    // the search is cut short once timed is set and the deadline passes
+    private long deadline;
+    private boolean timed;
+    private boolean timedOut;
+    // set when a line below the probability cutoff was not searched
+    private boolean cutOff;
+    private int lastDepth;
+    private DirectionT rootMove;
+    private float rootValue;
+
+    /**
+     * @brief Initializes an ExpectimaxAgent object with the given search limits.
+     * @param depth      The number of moves to search ahead (at least 1).
+     * @param nodeBudget The maximum number of nodes to search per move.
+     * @param tableBits  The base 2 logarithm of the number of entries in the
+     *                   transposition table.
+     * @throws IllegalArgumentException If the depth or node budget is less than
+     *                                  1.
+     */
+    public ExpectimaxAgent(int depth, long nodeBudget, int tableBits) {
+        this(depth, nodeBudget, new TranspositionTable(tableBits));
+    }
+
+    /**
+     * @brief Initializes an ExpectimaxAgent object that stores its results in the
+     *        given transposition table.
+     * @details The table may be shared with agents searching in other threads,
+     *          which then reuse each other's results.
+     * @param depth      The number of moves to search ahead (at least 1).
+     * @param nodeBudget The maximum number of nodes to search per move.
+     * @param table      The transposition table to use.
+     * @throws IllegalArgumentException If the depth or node budget is less than
+     *                                  1.
+     */
+    public ExpectimaxAgent(int depth, long nodeBudget, TranspositionTable table) {
+        this(depth, nodeBudget, table, new HeuristicEvaluator());
+    }
+
+    /**
+     * @brief Initializes an ExpectimaxAgent object that stores its results in the
+     *        given transposition table and evaluates boards with the given
+     *        evaluator.
+     * @param depth      The number of moves to search ahead (at least 1).
+     * @param nodeBudget The maximum number of nodes to search per move.
+     * @param table      The transposition table to use.
+     * @param evaluator  The static evaluation of the boards where the search
+     *                   stops.
+     * @throws IllegalArgumentException If the depth or node budget is less than
+     *                                  1.
+     */
+    public ExpectimaxAgent(int depth, long nodeBudget, TranspositionTable table, HeuristicEvaluator evaluator) {
+        if (depth < 1 || nodeBudget < 1) {
+            throw new IllegalArgumentException("The depth and node budget must be at least 1.");
+        }
+        this.depth = depth;
+        this.nodeBudget = nodeBudget;
+        this.table = table;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * @brief Choose the best move for the given board.
+     * @param board The board to search from.
+     * @param rand  Unused, as the search is deterministic.
+     * @return The direction with the highest expected value.
+     * @throws IllegalArgumentException If the board cannot be packed.
+     * @throws IllegalStateException    If no move changes the board.
+     */
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        return bestMove(BitBoard.pack(board));
+    }
+
+    /**
+     * @brief Choose the best move for the given packed board.
+     * @details The board is searched to depth 1, 2, ... up to the depth of the
+     *          agent (or the depth from searchDepth with adaptive depth) until
+     *          the node budget or the time budget runs out, and the move of the
+     *          last depth that searched every move completely is chosen, so
+     *          moves are never compared at different depths. Depth 1 is always
+     *          completed.
+     * @param board The packed board to search from.
+     * @return The direction with the highest expected value.
+     * @throws IllegalStateException If no move changes the board.
+     */
+    public DirectionT bestMove(long board) {
+        nodes = 0;
+        lastDepth = 0;
+        timed = false;
+        timedOut = false;
+        cutOff = false;
+        int maxDepth = adaptiveDepth ? searchDepth(board, depth) : depth;
+        if (cache != null) {
+            long entry = cache.get(board, TranspositionTable.MISS);
+            if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= maxDepth) {
+                return TranspositionTable.moveOf(entry);
+            }
+        }
+        // depth 1 only evaluates the board after each move, so it always
+        // completes and the deadline applies from depth 2
+        deadline = System.nanoTime() + timeBudgetNanos;
+        searchRoot(board, 1);
+        timed = timeBudgetNanos != 0;
+        DirectionT move = rootMove;
+        float value = rootValue;
+        for (int d = 2; d <= maxDepth && searchRoot(board, d); d++) {
+            move = rootMove;
+            value = rootValue;
+        }
+        rootMove = move;
+        rootValue = value;
+        if (rootMove == null) {
+            throw new IllegalStateException("Cannot move when game is over.");
+        }
+        if (cache != null && nodes < nodeBudget && !timedOut && !cutOff) {
+            // a search cut short by the node budget, the deadline or the
+            // probability cutoff is not cached as a full search
+            cache.put(board, TranspositionTable.encode(rootValue, lastDepth, rootMove));
+        }
+        return rootMove;
+    }
+
+    /**
+     * @brief Choose a search depth for the given packed board.
+     * @details Boards with more distinct tiles are more complex and need a deeper
+     *          search, while boards with many empty tiles have many random tiles
+     *          to average over and are cheap to evaluate shallowly, so the depth
+     *          is the number of distinct tiles less 2, less 1 more if at least 6
+     *          tiles are empty, and at least 2 (as in many strong 2048 agents).
+     * @param board    The packed board.
+     * @param maxDepth The largest depth to return.
+     * @return The depth in the range of [min(2, maxDepth), maxDepth].
+     */
+    public static int searchDepth(long board, int maxDepth) {
+        int distinct = 0;
+        for (int seen = 0, p = 0; p < BitBoard.SIZE * BitBoard.SIZE; p++) {
+            int exponent = (int) (board >>> (p << 2)) & 0xF;
+            if (exponent != 0 && (seen & (1 << exponent)) == 0) {
+                seen |= 1 << exponent;
+                distinct++;
+            }
+        }
+        int depth = distinct - 2 - (BitBoard.countEmpty(board) >= 6 ? 1 : 0);
+        return Math.min(Math.max(depth, 2), maxDepth);
+    }
+
+    /**
+     * @brief Set the wall-clock time that bestMove may take to search a board
+     *        by iterative deepening.
+     * @param millis The time budget per move in milliseconds, or 0 to always
+     *               search to the full depth.
+     * @throws IllegalArgumentException If the time budget is less than 0.
+     */
+    public void setTimeBudget(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("The time budget must not be less than zero.");
+        }
+        timeBudgetNanos = millis * 1000000L;
+    }
+
+    /**
+     * @brief Set the probability below which a line of play is not searched
+     *        further.
+     * @details The probability of a line is the product of the probabilities of
+     *          the random tiles added along it (e.g. 0.9 / 8 for a 2 on a board
+     *          with 8 empty tiles). When it falls below the cutoff, the board is
+     *          given its static evaluation instead of being searched, as such
+     *          unlikely lines hardly change the expected value. Values with a
+     *          line cut off are not stored in the transposition table.
+     * @param cutoff The probability cutoff in the range of [0, 1), or 0 to search
+     *               every line.
+     * @throws IllegalArgumentException If the cutoff is not in the range of [0,
+     *                                  1).
+     */
+    public void setProbabilityCutoff(float cutoff) {
+        if (cutoff < 0 || cutoff >= 1) {
+            throw new IllegalArgumentException("The probability cutoff must be in the range of [0..1).");
+        }
+        probabilityCutoff = cutoff;
+    }
+
+    /**
+     * @brief Set whether the depth of the search is chosen for each board by
+     *        searchDepth (with the depth of the agent as the largest depth).
+     * @param adaptive True to choose the depth for each board.
+     */
+    public void setAdaptiveDepth(boolean adaptive) {
+        adaptiveDepth = adaptive;
+    }
+
+    /**
+     * @brief Get the depth of the last completed search of the last call to
+     *        bestMove.
+     * @return The depth searched, or 0 if the move came from the cache.
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * @brief Set the cache of the moves chosen by bestMove, so that a board that
+     *        was already searched (e.g. the same opening in another game) is not
+     *        searched again.
+     * @details The cache may be shared with other agents (in any thread) that
+     *          search to the same depth with the same evaluator.
+     * @param cache The cache to use, or null to search every board.
+     */
+    public void setCache(EvaluationCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * @brief Get the number of nodes searched by the last call to bestMove.
+     * @return The number of nodes searched.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    // searches every move of the board to the given depth and sets rootMove and
+    // rootValue, returning false if the node budget or the deadline ran out
+    // before it completed
+    private boolean searchRoot(long board, int depth) {
+        DirectionT best = null;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (DirectionT direction : DIRECTIONS) {
+            long after = BitBoardManager.move(board, direction);
+            if (after == board) {
+                continue;
+            }
+            float value = chanceNode(after, depth, 1);
+            if (depth > 1 && (nodes >= nodeBudget || timedOut)) {
+                return false;
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                best = direction;
+            }
+        }
+        rootMove = best;
+        rootValue = bestValue;
+        lastDepth = depth;
+        return true;
+    }
+
+    private float maxNode(long board, int depth, float probability) {
+        nodes++;
+        if (nodes >= nodeBudget || timedOut) {
+            return evaluator.evaluate(board);
+        }
+        float best = 0;
+        for (DirectionT direction : DIRECTIONS) {
+            long after = BitBoardManager.move(board, direction);
+            if (after != board) {
+                best = Math.max(best, chanceNode(after, depth, probability));
+            }
+        }
+        return best;
+    }
+
+    private float chanceNode(long board, int depth, float probability) {
+        nodes++;
+        if (timed && (nodes & 1023) == 0 && System.nanoTime() - deadline > 0) {
+            timedOut = true;
+        }
+        if (depth <= 1 || nodes >= nodeBudget || timedOut) {
+            return evaluator.evaluate(board);
+        }
+        if (probability < probabilityCutoff) {
+            cutOff = true;
+            return evaluator.evaluate(board);
+        }
+        long entry = table.probe(board);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= depth) {
+            return TranspositionTable.valueOf(entry);
+        }
+
+        boolean outerCutOff = cutOff;
+        cutOff = false;
+        int empty = BitBoard.emptyMask(board);
+        float cell = probability / Integer.bitCount(empty);
+        double sum = 0;
+        for (int cells = empty; cells != 0; cells &= cells - 1) {
+            int shift = Integer.numberOfTrailingZeros(cells) << 2;
+            sum += PROBABILITY_2 * maxNode(board | (1L << shift), depth - 1, cell * PROBABILITY_2);
+            sum += PROBABILITY_4 * maxNode(board | (2L << shift), depth - 1, cell * PROBABILITY_4);
+        }
+        float value = (float) (sum / Integer.bitCount(empty));
+        if (nodes < nodeBudget && !timedOut && !cutOff) {
+            // a value cut short by the node budget, the deadline or the
+            // probability cutoff is not stored as a full search, as the table
+            // may be shared with agents that search every line
+            table.store(board, value, depth, null);
+        }
+        cutOff |= outerCutOff;
+        return value;
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: HeuristicEvaluator Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import src.model.BitBoard;
+import src.model.BoardT;
+
+/**
+ * @brief An ADT that gives packed boards (see the BitBoard module) a static
+ *        evaluation for search agents, as a weighted sum of heuristic terms.
+ * @details Every term is a sum over the four rows and the four columns of the
+ *          board, so the weighted terms of every possible 16-bit row are
+ *          precomputed into one 65536-entry table and a board is evaluated
+ *          with eight table lookups (the columns are the rows of the
+ *          transposed board). The terms of a row, on the exponents of its
+ *          tiles, are:
+ *          - EMPTY: the number of empty tiles.
+ *          - MONOTONICITY: minus the smaller of the total increase and the
+ *            total decrease of the fourth powers of adjacent exponents, so a
+ *            row that only increases or only decreases is not penalized.
+ *          - SMOOTHNESS: minus the total difference between adjacent
+ *            non-empty tiles (skipping empty tiles).
+ *          - MERGES: the number of adjacent equal non-empty tiles (skipping
+ *            empty tiles), i.e. the merges available.
+ *          - CORNER: the largest exponent of the row if it is at either end,
+ *            so the largest tile of the board in a corner counts twice (in its
+ *            row and its column) and on an edge once.
+ *          Every evaluation also includes the constant BASE and is at least
+ *          FLOOR, so that boards that are still in play always score above a
+ *          lost board (0), even when the monotonicity penalty of large tiles
+ *          exceeds BASE.
+ */
+public class HeuristicEvaluator {
+    /**
+     * @brief The index of the weight of the number of empty tiles.
+     */
+    public static final int EMPTY = 0;
+    /**
+     * @brief The index of the weight of the monotonicity of the rows and columns.
+     */
+    public static final int MONOTONICITY = 1;
+    /**
+     * @brief The index of the weight of the smoothness of the rows and columns.
+     */
+    public static final int SMOOTHNESS = 2;
+    /**
+     * @brief The index of the weight of the number of merges available.
+     */
+    public static final int MERGES = 3;
+    /**
+     * @brief The index of the weight of keeping the largest tile in a corner.
+     */
+    public static final int CORNER = 4;
+    /**
+     * @brief The number of weights.
+     */
+    public static final int WEIGHTS = 5;
+    /**
+     * @brief The constant included in every evaluation.
+     */
+    public static final float BASE = 200000f;
+    /**
+     * @brief The least evaluation of a board.
+     */
+    public static final float FLOOR = 1f;
+
+    private static final int ROWS = 1 << 16;
+    private static final float[] DEFAULT_WEIGHTS = new float[] { 270f, 4.7f, 11f, 700f, 100f };
+    // TERMS[row * WEIGHTS + w] is term w of the row
+    private static final float[] TERMS = new float[ROWS * WEIGHTS];
+
+    static {
+        int[] line = new int[BitBoard.SIZE];
+        for (int row = 0; row < ROWS; row++) {
+            for (int i = 0; i < BitBoard.SIZE; i++) {
+                line[i] = (row >>> (i << 2)) & 0xF;
+            }
+            terms(line, TERMS, row * WEIGHTS);
+        }
+    }
+
+    private final float[] weights;
+    private final float[] table = new float[ROWS];
+
+    /**
+     * @brief Initializes a HeuristicEvaluator object with the default weights.
+     */
+    public HeuristicEvaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * @brief Initializes a HeuristicEvaluator object with the given weights.
+     * @param weights The weight of each term, indexed by EMPTY, MONOTONICITY,
+     *                SMOOTHNESS, MERGES and CORNER. The array is copied.
+     * @throws IllegalArgumentException If the number of weights is not WEIGHTS.
+     */
+    public HeuristicEvaluator(float[] weights) {
+        if (weights.length != WEIGHTS) {
+            throw new IllegalArgumentException("The number of weights must be " + WEIGHTS + ".");
+        }
+        this.weights = weights.clone();
+        for (int row = 0; row < ROWS; row++) {
+            float value = BASE / (2 * BitBoard.SIZE);
+            for (int w = 0; w < WEIGHTS; w++) {
+                value += weights[w] * TERMS[row * WEIGHTS + w];
+            }
+            table[row] = value;
+        }
+    }
+
+    /**
+     * @brief Get the weights of the terms.
+     * @return A copy of the weights, indexed by EMPTY, MONOTONICITY, SMOOTHNESS,
+     *         MERGES and CORNER.
+     */
+    public float[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * @brief Get the default weights of the terms.
+     * @return A copy of the weights used by HeuristicEvaluator().
+     */
+    public static float[] getDefaultWeights() {
+        return DEFAULT_WEIGHTS.clone();
+    }
+
+    /**
+     * @brief Evaluate the given packed board.
+     * @param board The packed board.
+     * @return BASE plus the weighted sum of the terms of every row and column,
+     *         or FLOOR if that is less than FLOOR.
+     */
+    public float evaluate(long board) {
+        long transposed = BitBoard.transpose(board);
+        float value = table[BitBoard.getRow(board, 0)] + table[BitBoard.getRow(board, 1)]
+                + table[BitBoard.getRow(board, 2)] + table[BitBoard.getRow(board, 3)]
+                + table[BitBoard.getRow(transposed, 0)] + table[BitBoard.getRow(transposed, 1)]
+                + table[BitBoard.getRow(transposed, 2)] + table[BitBoard.getRow(transposed, 3)];
+        return Math.max(value, FLOOR);
+    }
+
+    /**
+     * @brief Evaluate the given board.
+     * @param board The board.
+     * @return The evaluation of the packed board.
+     * @throws IllegalArgumentException If the board cannot be packed.
+     * @see evaluate(long)
+     */
+    public float evaluate(BoardT board) {
+        return evaluate(BitBoard.pack(board));
+    }
+
+    /**
+     * @brief Get the unweighted terms of the given packed board.
+     * @param board The packed board.
+     * @return The sum of each term over every row and column, indexed by EMPTY,
+     *         MONOTONICITY, SMOOTHNESS, MERGES and CORNER, so that evaluate is
+     *         BASE plus the sum of the terms times the weights (or FLOOR).
+     */
+    public static float[] terms(long board) {
+        float[] terms = new float[WEIGHTS];
+        long transposed = BitBoard.transpose(board);
+        for (int j = 0; j < BitBoard.SIZE; j++) {
+            for (int w = 0; w < WEIGHTS; w++) {
+                terms[w] += TERMS[BitBoard.getRow(board, j) * WEIGHTS + w]
+                        + TERMS[BitBoard.getRow(transposed, j) * WEIGHTS + w];
+            }
+        }
+        return terms;
+    }
+
+    private static void terms(int[] line, float[] terms, int offset) {
+        float empty = 0;
+        float increase = 0;
+        float decrease = 0;
+        float smoothness = 0;
+        float merges = 0;
+        int max = 0;
+        int previous = 0;
+        for (int i = 0; i < line.length; i++) {
+            int exponent = line[i];
+            max = Math.max(max, exponent);
+            if (i > 0) {
+                float difference = (float) (Math.pow(exponent, 4) - Math.pow(line[i - 1], 4));
+                if (difference > 0) {
+                    increase += difference;
+                } else {
+                    decrease -= difference;
+                }
+            }
+            if (exponent == 0) {
+                empty++;
+                continue;
+            }
+            if (previous != 0) {
+                smoothness -= Math.abs(exponent - previous);
+                if (exponent == previous) {
+                    merges++;
+                }
+            }
+            previous = exponent;
+        }
+        terms[offset + EMPTY] = empty;
+        terms[offset + MONOTONICITY] = -Math.min(increase, decrease);
+        terms[offset + SMOOTHNESS] = smoothness;
+        terms[offset + MERGES] = merges;
+        boolean atEnd = line[0] == max || line[line.length - 1] == max;
+        terms[offset + CORNER] = max > 0 && atEnd ? max : 0;
+    }
+}
@@ -0,0 +1,394 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: MctsAgent Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoardManager;
+import src.controller.MovePolicy;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that chooses moves using Monte Carlo Tree Search (MCTS) with
+ *        UCT selection over packed boards (see the BitBoard module).
+ * @details The search uses root parallelization: every thread grows its own
+ *          tree from the current board with its own source of randomness, and
+ *          the visit counts of the moves at the roots are summed to choose the
+ *          move. As the trees are not shared, no locking or virtual loss is
+ *          needed. The trees are open-loop: a node represents a sequence of
+ *          moves and the random tiles are sampled again on every iteration.
+ *          Nodes are stored in primitive arrays allocated once, and rollouts
+ *          use BitBoardManager, so a search does not allocate per iteration.
+ *          The reward of an iteration is the number of points scored from the
+ *          current board until the end of the rollout. An agent either owns
+ *          its threads, which it keeps until shutdown is called, or runs on an
+ *          executor given to it, which may be shared by many agents (e.g. the
+ *          agents that SimulationRunner creates for each game) and is never
+ *          shut down by them.
+ */
+public class MctsAgent implements MovePolicy {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int MAX_PATH = 512;
+
+    private final int threads;
+    private final long budgetNanos;
+    private final boolean greedyRollouts;
+    private final SearchTree[] trees;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    private long lastIterations;
+    private long lastNodes;
+    private long lastNanos;
+
+    /**
+     * @brief Initializes an MctsAgent object with its own threads.
+     * @param threads        The number of threads (and trees) to search with.
+     * @param budgetMillis   The wall-clock time to search for per move in
+     *                       milliseconds.
+     * @param treeCapacity   The maximum number of nodes in each tree.
+     * @param greedyRollouts True if rollouts choose the move scoring the most
+     *                       points (ties broken at random) instead of a random
+     *                       move.
+     * @throws IllegalArgumentException If the number of threads, time budget or
+     *                                  tree capacity is less than 1.
+     */
+    public MctsAgent(int threads, long budgetMillis, int treeCapacity, boolean greedyRollouts) {
+        this(threads, budgetMillis, treeCapacity, greedyRollouts, null);
+    }
+
+    /**
+     * @brief Initializes an MctsAgent object that searches on the given
+     *        executor.
+     * @details The executor should have at least the given number of threads,
+     *          as the trees of a search run at the same time until the time
+     *          budget runs out.
+     * @param threads        The number of trees to search with.
+     * @param budgetMillis   The wall-clock time to search for per move in
+     *                       milliseconds.
+     * @param treeCapacity   The maximum number of nodes in each tree.
+     * @param greedyRollouts True if rollouts choose the move scoring the most
+     *                       points (ties broken at random) instead of a random
+     *                       move.
+     * @param executor       The executor to search on, or null for the agent to
+     *                       create its own threads.
+     * @throws IllegalArgumentException If the number of threads, time budget or
+     *                                  tree capacity is less than 1.
+     */
+    public MctsAgent(int threads, long budgetMillis, int treeCapacity, boolean greedyRollouts,
+            ExecutorService executor) {
+        if (threads < 1 || budgetMillis < 1 || treeCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "The number of threads, time budget and tree capacity must be at least 1.");
+        }
+        this.threads = threads;
+        this.budgetNanos = budgetMillis * 1000000L;
+        this.greedyRollouts = greedyRollouts;
+        this.trees = new SearchTree[threads];
+        for (int t = 0; t < threads; t++) {
+            trees[t] = new SearchTree(treeCapacity);
+        }
+        this.ownsExecutor = executor == null;
+        this.executor = ownsExecutor ? Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcts");
+            thread.setDaemon(true);
+            return thread;
+        }) : executor;
+    }
+
+    /**
+     * @brief Choose the best move for the given board.
+     * @param board The board to search from.
+     * @param rand  The source of randomness used to seed each tree.
+     * @return The direction with the most visits summed over all trees.
+     * @throws IllegalArgumentException If the board cannot be packed.
+     * @throws IllegalStateException    If no move changes the board.
+     */
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        return bestMove(BitBoard.pack(board), rand.nextLong());
+    }
+
+    /**
+     * @brief Choose the best move for the given packed board by searching for the
+     *        time budget.
+     * @param board The packed board to search from.
+     * @param seed  The seed that the source of randomness of each tree is derived
+     *              from.
+     * @return The direction with the most visits summed over all trees.
+     * @throws IllegalStateException If no move changes the board.
+     */
+    public DirectionT bestMove(long board, long seed) {
+        if (BitBoardManager.isGameOver(board)) {
+            throw new IllegalStateException("Cannot move when game is over.");
+        }
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            SearchTree tree = trees[t];
+            tree.reset(board, seed + t);
+            futures.add(executor.submit(() -> tree.search(deadline)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The search was interrupted.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("The search failed.", e.getCause());
+            }
+        }
+
+        long[] visits = new long[DIRECTIONS.length];
+        double[] rewards = new double[DIRECTIONS.length];
+        lastIterations = 0;
+        lastNodes = 0;
+        for (SearchTree tree : trees) {
+            tree.addRootStatistics(visits, rewards);
+            lastIterations += tree.iterations;
+            lastNodes += tree.size;
+        }
+        lastNanos = System.nanoTime() - start;
+
+        DirectionT best = null;
+        for (DirectionT direction : DIRECTIONS) {
+            int d = direction.ordinal();
+            if (BitBoardManager.canMove(board, direction) && (best == null || visits[d] > visits[best.ordinal()]
+                    || (visits[d] == visits[best.ordinal()] && rewards[d] > rewards[best.ordinal()]))) {
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief Get the number of iterations (selection, expansion, rollout and
+     *        backpropagation) run by the last search over all threads.
+     * @return The number of iterations.
+     */
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @brief Get the number of tree nodes created by the last search over all
+     *        threads.
+     * @return The number of nodes.
+     */
+    public long getLastNodes() {
+        return lastNodes;
+    }
+
+    /**
+     * @brief Get the search speed of the last search over all threads.
+     * @return The number of iterations per second of wall-clock time.
+     */
+    public double getLastIterationsPerSecond() {
+        return lastNanos == 0 ? 0 : lastIterations / (lastNanos / 1e9);
+    }
+
+    /**
+     * @brief Get the rate at which the last search grew its trees over all
+     *        threads.
+     * @return The number of tree nodes created per second of wall-clock time.
+     */
+    public double getLastNodesPerSecond() {
+        return lastNanos == 0 ? 0 : lastNodes / (lastNanos / 1e9);
+    }
+
+    /**
+     * @brief Stop the threads of the agent if it owns them. The agent cannot be
+     *        used afterwards, but an executor given to it keeps running.
+     */
+    public void shutdown() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private class SearchTree {
+        private final int[] visits;
+        private final double[] rewards;
+        private final int[] children;
+        private final int[] path = new int[MAX_PATH];
+        private SplittableRandom rand;
+        private long root;
+        private int size;
+        private long iterations;
+        private double maxReward;
+
+        SearchTree(int capacity) {
+            visits = new int[capacity];
+            rewards = new double[capacity];
+            children = new int[capacity * DIRECTIONS.length];
+        }
+
+        void reset(long board, long seed) {
+            root = board;
+            size = 1;
+            iterations = 0;
+            maxReward = 1;
+            visits[0] = 0;
+            rewards[0] = 0;
+            clearChildren(0);
+            rand = new SplittableRandom(seed);
+        }
+
+        void search(long deadline) {
+            do {
+                // check the clock every few iterations as nanoTime is not free
+                for (int k = 0; k < 16; k++) {
+                    iterate();
+                }
+            } while (System.nanoTime() < deadline);
+        }
+
+        void addRootStatistics(long[] totalVisits, double[] totalRewards) {
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int child = children[d];
+                if (child != 0) {
+                    totalVisits[d] += visits[child];
+                    totalRewards[d] += rewards[child];
+                }
+            }
+        }
+
+        private void iterate() {
+            long board = root;
+            int node = 0;
+            int length = 0;
+            path[length++] = node;
+            double points = 0;
+            boolean expanded = false;
+
+            while (!expanded && length < MAX_PATH) {
+                int d = select(node, board);
+                if (d < 0) {
+                    break;
+                }
+                DirectionT direction = DIRECTIONS[d];
+                points += BitBoardManager.scoreFromMove(board, direction);
+                board = BitBoardManager.addRandomTile(BitBoardManager.move(board, direction), rand);
+
+                int child = children[node * DIRECTIONS.length + d];
+                if (child == 0) {
+                    if (size == visits.length) {
+                        break;
+                    }
+                    child = size++;
+                    visits[child] = 0;
+                    rewards[child] = 0;
+                    clearChildren(child);
+                    children[node * DIRECTIONS.length + d] = child;
+                    expanded = true;
+                }
+                node = child;
+                path[length++] = node;
+            }
+
+            double reward = points + rollout(board);
+            maxReward = Math.max(maxReward, reward);
+            for (int k = 0; k < length; k++) {
+                visits[path[k]]++;
+                rewards[path[k]] += reward;
+            }
+            iterations++;
+        }
+
+        // returns the ordinal of the chosen direction, or -1 if no move changes
+        // the board; an unvisited legal move is always chosen before UCT is used
+        private int select(int node, long board) {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logVisits = Math.log(Math.max(visits[node], 1));
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                if (!BitBoardManager.canMove(board, DIRECTIONS[d])) {
+                    continue;
+                }
+                int child = children[node * DIRECTIONS.length + d];
+                if (child == 0 || visits[child] == 0) {
+                    return d;
+                }
+                double mean = rewards[child] / visits[child] / maxReward;
+                double score = mean + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = d;
+                }
+            }
+            return best;
+        }
+
+        private double rollout(long board) {
+            double points = 0;
+            while (true) {
+                int d = greedyRollouts ? greedyMove(board) : randomMove(board);
+                if (d < 0) {
+                    return points;
+                }
+                points += BitBoardManager.scoreFromMove(board, DIRECTIONS[d]);
+                board = BitBoardManager.addRandomTile(BitBoardManager.move(board, DIRECTIONS[d]), rand);
+            }
+        }
+
+        private int randomMove(long board) {
+            int legal = 0;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                if (BitBoardManager.canMove(board, DIRECTIONS[d])) {
+                    legal |= 1 << d;
+                }
+            }
+            if (legal == 0) {
+                return -1;
+            }
+            for (int n = rand.nextInt(Integer.bitCount(legal)); n > 0; n--) {
+                legal &= legal - 1;
+            }
+            return Integer.numberOfTrailingZeros(legal);
+        }
+
+        private int greedyMove(long board) {
+            int best = -1;
+            int bestPoints = -1;
+            int ties = 0;
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                if (!BitBoardManager.canMove(board, DIRECTIONS[d])) {
+                    continue;
+                }
+                int points = BitBoardManager.scoreFromMove(board, DIRECTIONS[d]);
+                if (points > bestPoints) {
+                    best = d;
+                    bestPoints = points;
+                    ties = 1;
+                } else if (points == bestPoints && rand.nextInt(++ties) == 0) {
+                    best = d;
+                }
+            }
+            return best;
+        }
+
+        private void clearChildren(int node) {
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                children[node * DIRECTIONS.length + d] = 0;
+            }
+        }
+    }
+}
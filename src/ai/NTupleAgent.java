@@ -0,0 +1,86 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: NTupleAgent Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoardManager;
+import src.controller.MovePolicy;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that chooses moves greedily using the value of the afterstate
+ *        (the board after the move and before the random tile is added) given
+ *        by an NTupleNetwork object.
+ * @details The chosen move maximizes the points scored by the move plus the
+ *          value of its afterstate. An NTupleAgent object does not modify its
+ *          network, so it can be shared between threads once training is done.
+ */
+public class NTupleAgent implements MovePolicy {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+
+    private final NTupleNetwork network;
+
+    /**
+     * @brief Initializes an NTupleAgent object using the given network.
+     * @param network The network giving the value of afterstates.
+     */
+    public NTupleAgent(NTupleNetwork network) {
+        this.network = network;
+    }
+
+    /**
+     * @brief Choose the best move for the given board.
+     * @param board The board to choose a move for.
+     * @param rand  Unused, as the choice is deterministic.
+     * @return The direction with the highest points plus afterstate value.
+     * @throws IllegalArgumentException If the board cannot be packed.
+     * @throws IllegalStateException    If no move changes the board.
+     */
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        DirectionT best = bestMove(BitBoard.pack(board));
+        if (best == null) {
+            throw new IllegalStateException("Cannot move when game is over.");
+        }
+        return best;
+    }
+
+    /**
+     * @brief Choose the best move for the given packed board.
+     * @param board The packed board to choose a move for.
+     * @return The direction with the highest points plus afterstate value, or
+     *         null if no move changes the board.
+     */
+    public DirectionT bestMove(long board) {
+        DirectionT best = null;
+        float bestValue = Float.NEGATIVE_INFINITY;
+        for (DirectionT direction : DIRECTIONS) {
+            long after = BitBoardManager.move(board, direction);
+            if (after == board) {
+                continue;
+            }
+            float value = BitBoardManager.scoreFromMove(board, direction) + network.value(after);
+            if (value > bestValue) {
+                bestValue = value;
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief Get the network used to choose moves.
+     * @return The NTupleNetwork object of the agent.
+     */
+    public NTupleNetwork getNetwork() {
+        return network;
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: NTupleNetwork Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import src.model.BitBoard;
+
+/**
+ * @brief An ADT that implements an n-tuple network, a value function of packed
+ *        boards (see the BitBoard module) that is trained by temporal
+ *        difference learning.
+ * @details A tuple is a sequence of 4 positions of the board. The exponents of
+ *          the tiles at those positions form an index into the tuple's array of
+ *          16^4 weights. Each tuple is applied to the 8 rotations and
+ *          reflections of the board, which share the same weights, and the value
+ *          of a board is the sum of the weights found. The default tuples are
+ *          the outer and inner rows and the corner, edge and center 2x2
+ *          squares of the board.
+ */
+public class NTupleNetwork {
+    /**
+     * @brief The number of positions in a tuple.
+     */
+    public static final int TUPLE_LENGTH = 4;
+
+    private static final int MAGIC = 0x32303438;
+    private static final int SYMMETRIES = 8;
+    private static final int[][] DEFAULT_TUPLES = {
+            { 0, 1, 2, 3 },
+            { 4, 5, 6, 7 },
+            { 0, 1, 4, 5 },
+            { 1, 2, 5, 6 },
+            { 5, 6, 9, 10 },
+    };
+
+    private final int[][] tuples;
+    private final float[][] weights;
+    // shifts[t][s * TUPLE_LENGTH + k] is the bit offset of position k of tuple t
+    // after applying symmetry s
+    private final int[][] shifts;
+
+    /**
+     * @brief Initializes an NTupleNetwork object with the default tuples and all
+     *        weights set to 0.
+     */
+    public NTupleNetwork() {
+        this(DEFAULT_TUPLES);
+    }
+
+    /**
+     * @brief Initializes an NTupleNetwork object with the given tuples and all
+     *        weights set to 0.
+     * @param tuples The tuples, each a sequence of TUPLE_LENGTH positions where
+     *               the position of the tile at i, j is 4 * j + i.
+     * @throws IllegalArgumentException If a tuple is not of length TUPLE_LENGTH or
+     *                                  a position is not in the range of [0, 16).
+     */
+    public NTupleNetwork(int[][] tuples) {
+        this.tuples = new int[tuples.length][];
+        this.weights = new float[tuples.length][1 << (4 * TUPLE_LENGTH)];
+        this.shifts = new int[tuples.length][SYMMETRIES * TUPLE_LENGTH];
+        for (int t = 0; t < tuples.length; t++) {
+            if (tuples[t].length != TUPLE_LENGTH) {
+                throw new IllegalArgumentException("Every tuple must have exactly 4 positions.");
+            }
+            this.tuples[t] = tuples[t].clone();
+            for (int k = 0; k < TUPLE_LENGTH; k++) {
+                int position = tuples[t][k];
+                if (position < 0 || position >= BitBoard.SIZE * BitBoard.SIZE) {
+                    throw new IllegalArgumentException("The positions must be in the range of [0..16).");
+                }
+                for (int s = 0; s < SYMMETRIES; s++) {
+                    shifts[t][s * TUPLE_LENGTH + k] = symmetric(position, s) << 2;
+                }
+            }
+        }
+    }
+
+    /**
+     * @brief Get the value of the given packed board.
+     * @param board The packed board.
+     * @return The sum of the weights of every tuple under every symmetry.
+     */
+    public float value(long board) {
+        float sum = 0;
+        for (int t = 0; t < tuples.length; t++) {
+            float[] w = weights[t];
+            int[] shift = shifts[t];
+            for (int s = 0; s < shift.length; s += TUPLE_LENGTH) {
+                sum += w[index(board, shift, s)];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @brief Add the given amount to every weight used to compute the value of the
+     *        given packed board.
+     * @param board The packed board.
+     * @param delta The amount added to each weight.
+     */
+    public void update(long board, float delta) {
+        for (int t = 0; t < tuples.length; t++) {
+            float[] w = weights[t];
+            int[] shift = shifts[t];
+            for (int s = 0; s < shift.length; s += TUPLE_LENGTH) {
+                w[index(board, shift, s)] += delta;
+            }
+        }
+    }
+
+    /**
+     * @brief Get the number of weights used to compute the value of a board.
+     * @return The number of tuples times the number of symmetries.
+     */
+    public int features() {
+        return tuples.length * SYMMETRIES;
+    }
+
+    /**
+     * @brief Write the tuples and weights of the network to the given file.
+     * @param path The file to write to. It is replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        try (OutputStream file = Files.newOutputStream(path);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(tuples.length);
+            for (int[] tuple : tuples) {
+                for (int position : tuple) {
+                    out.writeByte(position);
+                }
+            }
+            for (float[] w : weights) {
+                for (float weight : w) {
+                    out.writeFloat(weight);
+                }
+            }
+        }
+    }
+
+    /**
+     * @brief Read a network written by save from the given file.
+     * @param path The file to read from.
+     * @return The NTupleNetwork object with the tuples and weights of the file.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file was not written by save.
+     */
+    public static NTupleNetwork load(Path path) throws IOException {
+        try (InputStream file = Files.newInputStream(path);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("The file does not contain an n-tuple network.");
+            }
+            int[][] tuples = new int[in.readInt()][TUPLE_LENGTH];
+            for (int[] tuple : tuples) {
+                for (int k = 0; k < TUPLE_LENGTH; k++) {
+                    tuple[k] = in.readByte();
+                }
+            }
+            NTupleNetwork network = new NTupleNetwork(tuples);
+            for (float[] w : network.weights) {
+                for (int index = 0; index < w.length; index++) {
+                    w[index] = in.readFloat();
+                }
+            }
+            return network;
+        }
+    }
+
+    private static int index(long board, int[] shift, int s) {
+        return ((int) (board >>> shift[s]) & 0xF)
+                | (((int) (board >>> shift[s + 1]) & 0xF) << 4)
+                | (((int) (board >>> shift[s + 2]) & 0xF) << 8)
+                | (((int) (board >>> shift[s + 3]) & 0xF) << 12);
+    }
+
+    // maps a position by one of the 8 rotations and reflections of the board:
+    // bit 0 reflects horizontally, bit 1 reflects vertically and bit 2 transposes
+    private static int symmetric(int position, int s) {
+        int i = position % BitBoard.SIZE;
+        int j = position / BitBoard.SIZE;
+        if ((s & 1) != 0) {
+            i = BitBoard.SIZE - 1 - i;
+        }
+        if ((s & 2) != 0) {
+            j = BitBoard.SIZE - 1 - j;
+        }
+        if ((s & 4) != 0) {
+            int temp = i;
+            i = j;
+            j = temp;
+        }
+        return j * BitBoard.SIZE + i;
+    }
+}
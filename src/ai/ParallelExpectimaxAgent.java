@@ -0,0 +1,282 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ParallelExpectimaxAgent Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoardManager;
+import src.controller.MovePolicy;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that chooses moves using the expectimax search of
+ *        ExpectimaxAgent split across the threads of a work-stealing pool.
+ * @details Every move at the root is searched by its own ForkJoinTask, and a
+ *          CHANCE node with at least SPLIT_DEPTH moves left to search forks a
+ *          task for each of its empty tiles, so idle threads steal the largest
+ *          subtrees first. CHANCE nodes closer to the leaves are searched
+ *          sequentially, as a task costs more than searching them. Every task
+ *          stores its results in one TranspositionTable object, which is safe
+ *          to share, so a board reached by the tasks of different threads is
+ *          usually searched once. Unlike ExpectimaxAgent, the search goes
+ *          straight to the given depth, without iterative deepening, a node or
+ *          time budget or a probability cutoff. A CHANCE node reuses any value
+ *          in the table searched at least as deep, which may have been stored
+ *          by a deeper search of another thread, so the values searched (and,
+ *          rarely, the move chosen when moves have almost the same value)
+ *          depend on the order in which the threads run, as do the nodes
+ *          searched.
+ */
+public class ParallelExpectimaxAgent implements MovePolicy {
+    /**
+     * @brief The least number of moves left to search for a CHANCE node to be
+     *        split into a task per empty tile.
+     */
+    public static final int SPLIT_DEPTH = 4;
+
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final float PROBABILITY_2 = 0.9f;
+    private static final float PROBABILITY_4 = 0.1f;
+
+    private final int depth;
+    private final TranspositionTable table;
+    private final HeuristicEvaluator evaluator;
+    private final ForkJoinPool pool;
+    private final LongAdder nodes = new LongAdder();
+
+    private long lastNodes;
+    private long lastNanos;
+
+    /**
+     * @brief Initializes a ParallelExpectimaxAgent object.
+     * @param threads   The number of threads to search with.
+     * @param depth     The number of moves to search ahead (at least 1).
+     * @param tableBits The base 2 logarithm of the number of entries in the
+     *                  transposition table.
+     * @throws IllegalArgumentException If the number of threads or the depth is
+     *                                  less than 1.
+     */
+    public ParallelExpectimaxAgent(int threads, int depth, int tableBits) {
+        this(threads, depth, new TranspositionTable(tableBits), new HeuristicEvaluator());
+    }
+
+    /**
+     * @brief Initializes a ParallelExpectimaxAgent object that stores its
+     *        results in the given transposition table and evaluates boards with
+     *        the given evaluator.
+     * @param threads   The number of threads to search with.
+     * @param depth     The number of moves to search ahead (at least 1).
+     * @param table     The transposition table to use.
+     * @param evaluator The static evaluation of the boards where the search
+     *                  stops.
+     * @throws IllegalArgumentException If the number of threads or the depth is
+     *                                  less than 1.
+     */
+    public ParallelExpectimaxAgent(int threads, int depth, TranspositionTable table, HeuristicEvaluator evaluator) {
+        if (threads < 1 || depth < 1) {
+            throw new IllegalArgumentException("The number of threads and depth must be at least 1.");
+        }
+        this.depth = depth;
+        this.table = table;
+        this.evaluator = evaluator;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * @brief Choose the best move for the given board.
+     * @param board The board to search from.
+     * @param rand  Unused, as the search is deterministic.
+     * @return The direction with the highest expected value.
+     * @throws IllegalArgumentException If the board cannot be packed.
+     * @throws IllegalStateException    If no move changes the board.
+     */
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        return bestMove(BitBoard.pack(board));
+    }
+
+    /**
+     * @brief Choose the best move for the given packed board.
+     * @param board The packed board to search from.
+     * @return The direction with the highest expected value. Ties are broken by
+     *         the order of DirectionT.
+     * @throws IllegalStateException If no move changes the board.
+     */
+    public DirectionT bestMove(long board) {
+        long start = System.nanoTime();
+        nodes.reset();
+        DirectionT best = pool.invoke(new RootTask(board));
+        lastNodes = nodes.sum();
+        lastNanos = System.nanoTime() - start;
+        if (best == null) {
+            throw new IllegalStateException("Cannot move when game is over.");
+        }
+        return best;
+    }
+
+    /**
+     * @brief Get the number of nodes searched by the last call to bestMove over
+     *        all threads.
+     * @return The number of nodes searched.
+     */
+    public long getNodes() {
+        return lastNodes;
+    }
+
+    /**
+     * @brief Get the search speed of the last call to bestMove over all threads.
+     * @return The number of nodes searched per second of wall-clock time.
+     */
+    public double getNodesPerSecond() {
+        return lastNanos == 0 ? 0 : lastNodes / (lastNanos / 1e9);
+    }
+
+    /**
+     * @brief Stop the threads of the agent. The agent cannot be used afterwards.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // a task that searches part of the tree, counting its nodes locally and
+    // adding them to the total once it is done (tasks are never serialized)
+    @SuppressWarnings("serial")
+    private abstract class SearchTask<V> extends RecursiveTask<V> {
+        private long searched;
+
+        @Override
+        protected final V compute() {
+            V result = search();
+            nodes.add(searched);
+            return result;
+        }
+
+        abstract V search();
+
+        float maxNode(long board, int depth) {
+            searched++;
+            float best = 0;
+            for (DirectionT direction : DIRECTIONS) {
+                long after = BitBoardManager.move(board, direction);
+                if (after != board) {
+                    best = Math.max(best, chanceNode(after, depth));
+                }
+            }
+            return best;
+        }
+
+        float chanceNode(long board, int depth) {
+            searched++;
+            if (depth <= 1) {
+                return evaluator.evaluate(board);
+            }
+            long entry = table.probe(board);
+            if (entry != TranspositionTable.MISS && TranspositionTable.depthOf(entry) >= depth) {
+                return TranspositionTable.valueOf(entry);
+            }
+
+            int empty = BitBoard.emptyMask(board);
+            double sum = 0;
+            if (depth >= SPLIT_DEPTH) {
+                List<TileTask> tasks = new ArrayList<>(Integer.bitCount(empty));
+                for (int cells = empty; cells != 0; cells &= cells - 1) {
+                    tasks.add(new TileTask(board, Integer.numberOfTrailingZeros(cells) << 2, depth));
+                }
+                for (TileTask task : ForkJoinTask.invokeAll(tasks)) {
+                    sum += task.join();
+                }
+            } else {
+                for (int cells = empty; cells != 0; cells &= cells - 1) {
+                    sum += tileValue(board, Integer.numberOfTrailingZeros(cells) << 2, depth);
+                }
+            }
+            float value = (float) (sum / Integer.bitCount(empty));
+            table.store(board, value, depth, null);
+            return value;
+        }
+
+        // the value of a random tile added to the empty tile at the shift,
+        // weighted by the probability of each tile
+        double tileValue(long board, int shift, int depth) {
+            return PROBABILITY_2 * maxNode(board | (1L << shift), depth - 1)
+                    + PROBABILITY_4 * maxNode(board | (2L << shift), depth - 1);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class RootTask extends SearchTask<DirectionT> {
+        private final long board;
+
+        RootTask(long board) {
+            this.board = board;
+        }
+
+        @Override
+        DirectionT search() {
+            List<MoveTask> tasks = new ArrayList<>(DIRECTIONS.length);
+            for (DirectionT direction : DIRECTIONS) {
+                long after = BitBoardManager.move(board, direction);
+                if (after != board) {
+                    tasks.add(new MoveTask(direction, after));
+                }
+            }
+            DirectionT best = null;
+            float bestValue = Float.NEGATIVE_INFINITY;
+            for (MoveTask task : ForkJoinTask.invokeAll(tasks)) {
+                float value = task.join();
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = task.direction;
+                }
+            }
+            return best;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class MoveTask extends SearchTask<Float> {
+        private final DirectionT direction;
+        private final long after;
+
+        MoveTask(DirectionT direction, long after) {
+            this.direction = direction;
+            this.after = after;
+        }
+
+        @Override
+        Float search() {
+            return chanceNode(after, depth);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class TileTask extends SearchTask<Double> {
+        private final long board;
+        private final int shift;
+        private final int depth;
+
+        TileTask(long board, int shift, int depth) {
+            this.board = board;
+            this.shift = shift;
+            this.depth = depth;
+        }
+
+        @Override
+        Double search() {
+            return tileValue(board, shift, depth);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ReplacementT Module (Enumerated Type)
+ */
+
+package src.ai;
+
+/**
+ * @brief An enumerated type that represents how a TranspositionTable chooses
+ *        the entry replaced when a board is stored.
+ * @details ALWAYS replaces the entry the board maps to. DEPTH_PREFERRED keeps
+ *          the entry unless the new search is at least as deep (or the entry
+ *          holds the same board). TWO_TIER maps each board to a bucket of two
+ *          entries: a depth-preferred entry, whose previous board moves to the
+ *          other entry when it is replaced, and an always-replaced entry.
+ */
+public enum ReplacementT {
+  ALWAYS,
+  DEPTH_PREFERRED,
+  TWO_TIER,
+}
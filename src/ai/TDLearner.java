@@ -0,0 +1,105 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: TDLearner Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoardManager;
+import src.model.BitBoard;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that trains an NTupleNetwork object by TD(0) learning on
+ *        afterstates from games of self-play.
+ * @details Each game starts from an empty board with two random tiles and is
+ *          played by an NTupleAgent object using the network being trained,
+ *          following the move and spawn rules of BitBoardManager (the same
+ *          rules as BoardManager). After every move from afterstate a to
+ *          afterstate a' scoring r points, the value of a is moved towards r +
+ *          V(a'). The value of the last afterstate of a game is moved towards
+ *          0. A TDLearner object is not safe to share between threads.
+ */
+public class TDLearner {
+    private final NTupleNetwork network;
+    private final NTupleAgent agent;
+    private final float learningRate;
+    private final RandomGenerator rand;
+
+    /**
+     * @brief Initializes a TDLearner object.
+     * @param network      The network to be trained.
+     * @param learningRate The learning rate, which is divided among the weights
+     *                     used to compute the value of a board.
+     * @param rand         The source of randomness used to add random tiles.
+     * @throws IllegalArgumentException If the learning rate is not greater than 0.
+     */
+    public TDLearner(NTupleNetwork network, float learningRate, RandomGenerator rand) {
+        if (!(learningRate > 0)) {
+            throw new IllegalArgumentException("The learning rate must be greater than zero.");
+        }
+        this.network = network;
+        this.agent = new NTupleAgent(network);
+        this.learningRate = learningRate / network.features();
+        this.rand = rand;
+    }
+
+    /**
+     * @brief Play one game of self-play and update the network after every move.
+     * @return The final score of the game.
+     */
+    public int trainEpisode() {
+        long board = BitBoardManager.addRandomTile(BitBoardManager.addRandomTile(BitBoard.EMPTY, rand), rand);
+        int score = 0;
+        long afterstate = 0;
+        boolean first = true;
+        while (true) {
+            DirectionT direction = agent.bestMove(board);
+            if (direction == null) {
+                break;
+            }
+            int points = BitBoardManager.scoreFromMove(board, direction);
+            long next = BitBoardManager.move(board, direction);
+            if (!first) {
+                learn(afterstate, points + network.value(next));
+            }
+            first = false;
+            score += points;
+            afterstate = next;
+            board = BitBoardManager.addRandomTile(next, rand);
+        }
+        if (!first) {
+            learn(afterstate, 0);
+        }
+        return score;
+    }
+
+    /**
+     * @brief Play the given number of games of self-play.
+     * @param episodes The number of games to play.
+     * @return The mean final score of the games (0 if no games were played).
+     */
+    public double train(int episodes) {
+        long total = 0;
+        for (int k = 0; k < episodes; k++) {
+            total += trainEpisode();
+        }
+        return episodes == 0 ? 0 : (double) total / episodes;
+    }
+
+    /**
+     * @brief Get the network being trained.
+     * @return The NTupleNetwork object of the learner.
+     */
+    public NTupleNetwork getNetwork() {
+        return network;
+    }
+
+    private void learn(long afterstate, float target) {
+        network.update(afterstate, learningRate * (target - network.value(afterstate)));
+    }
+}
@@ -0,0 +1,480 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Tablebase Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import src.controller.BitBoard3Manager;
+import src.controller.BitBoardManager;
+import src.controller.MovePolicy;
+import src.model.BitBoard;
+import src.model.BitBoard3;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that looks up the exact probability of reaching a target tile
+ *        from a position of a small variant of the game, using a tablebase file
+ *        computed by generate.
+ * @details A variant is a 3x3 or 4x4 board and a target tile 2^t. A position is
+ *          a packed board (see the BitBoard3 and BitBoard modules) where the
+ *          player moves next, every tile is less than the target and which can
+ *          be reached from a new game. Every turn adds a tile and merges keep
+ *          the sum of the tiles, so the positions are split into layers by the
+ *          sum of their tiles, and a position only leads to positions of the
+ *          next two layers. generate enumerates the layers forwards from the
+ *          positions of a new game, then computes the win probability of every
+ *          position backwards from the last layer (retrograde analysis), where
+ *          the player plays perfectly and random tiles are added as in
+ *          BoardManager.addRandomTile. The file is a header (magic number,
+ *          size, t and the number of layers), the index of the first position
+ *          of each layer, the positions of every layer in increasing order and
+ *          the win probability of each position as a float. The file is
+ *          memory-mapped in chunks of at most 1 GiB, so it may be larger than
+ *          2 GiB, and a lookup is a binary search of the layer of the board.
+ */
+public class Tablebase implements MovePolicy {
+    static final int MAGIC = 0x32303455;
+    static final int HEADER_BYTES = 16;
+
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+    // the largest number of positions of one layer held in memory by generate
+    private static final int MAX_LAYER = Integer.MAX_VALUE - 8;
+
+    /**
+     * @brief The width/height of the boards of the variant.
+     */
+    public final int SIZE;
+
+    private final MappedByteBuffer[] chunks;
+    private final int target;
+    private final int cells;
+    // starts[h] is the index of the first position whose tiles sum to 2h, and
+    // starts[layers] is the number of positions
+    private final long[] starts;
+    private final long boardsOffset;
+    private final long valuesOffset;
+
+    /**
+     * @brief Initializes a Tablebase object that reads the given tablebase file.
+     * @param path The file written by generate.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a tablebase.
+     */
+    public Tablebase(Path path) throws IOException {
+        this(map(path, false));
+    }
+
+    private Tablebase(MappedByteBuffer[] chunks) {
+        MappedByteBuffer header = chunks[0];
+        if (header.limit() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("The file does not contain a tablebase.");
+        }
+        this.chunks = chunks;
+        SIZE = header.getInt(4);
+        target = header.getInt(8);
+        cells = SIZE * SIZE;
+        int layers = header.getInt(12);
+        if ((SIZE != BitBoard3.SIZE && SIZE != BitBoard.SIZE) || target < 3 || target > BitBoard.MAX_EXPONENT
+                || layers != layers(cells, target)) {
+            throw new IllegalArgumentException("The file does not contain a tablebase.");
+        }
+        boardsOffset = boardsOffset(layers);
+        if (bytes(chunks) < boardsOffset) {
+            throw new IllegalArgumentException("The tablebase file is truncated.");
+        }
+        starts = new long[layers + 1];
+        for (int h = 0; h <= layers; h++) {
+            starts[h] = getLong(HEADER_BYTES + 8L * h);
+        }
+        valuesOffset = boardsOffset + 8 * starts[layers];
+        if (bytes(chunks) != valuesOffset + 4 * starts[layers]) {
+            throw new IllegalArgumentException("The tablebase file is truncated.");
+        }
+    }
+
+    /**
+     * @brief Compute the tablebase of a variant and write it to the given file.
+     * @details The heap must hold the positions of three consecutive layers,
+     *          and each layer must have fewer than 2^31 positions. The 3x3
+     *          variant with a target of 512 has 114 million positions (a 1.4 GB
+     *          file) and the 4x4 variant with a target of 16 has 188 million
+     *          (a 2.3 GB file), while larger 4x4 targets need many more.
+     * @param size           The width/height of the boards (3 or 4).
+     * @param targetExponent The exponent t of the target tile 2^t.
+     * @param path           The file to write. It is replaced if it exists.
+     * @return A Tablebase object that reads the file.
+     * @throws IOException              If the file cannot be written.
+     * @throws IllegalArgumentException If the size is not 3 or 4, t is not in
+     *                                  the range of [3, BitBoard.MAX_EXPONENT]
+     *                                  or a layer has 2^31 positions or more.
+     */
+    public static Tablebase generate(int size, int targetExponent, Path path) throws IOException {
+        if (size != BitBoard3.SIZE && size != BitBoard.SIZE) {
+            throw new IllegalArgumentException("The size of the board must be 3 or 4.");
+        }
+        if (targetExponent < 3 || targetExponent > BitBoard.MAX_EXPONENT) {
+            throw new IllegalArgumentException("The target tile must be in the range of [8..32768].");
+        }
+        int cells = size * size;
+        int layers = layers(cells, targetExponent);
+        long boardsOffset = boardsOffset(layers);
+        long[] starts = new long[layers + 1];
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // the positions of a new game: two tiles at different positions
+            PositionList[] pending = new PositionList[layers + 2];
+            for (int p = 0; p < cells; p++) {
+                for (int q = p + 1; q < cells; q++) {
+                    for (long first = 1; first <= 2; first++) {
+                        for (long second = 1; second <= 2; second++) {
+                            int h = (int) (first + second);
+                            pending(pending, h).add((first << (p << 2)) | (second << (q << 2)));
+                        }
+                    }
+                }
+            }
+
+            ByteBuffer out = ByteBuffer.allocate(1 << 16);
+            long total = 0;
+            for (int h = 0; h < layers; h++) {
+                starts[h] = total;
+                long[] layer = pending[h] == null ? new long[0] : pending[h].toSortedArray();
+                pending[h] = null;
+                for (long board : layer) {
+                    if (!out.hasRemaining()) {
+                        write(channel, out, boardsOffset + 8 * total - out.position());
+                    }
+                    out.putLong(board);
+                    total++;
+                    expand(size, targetExponent, board, pending, h);
+                }
+                write(channel, out, boardsOffset + 8 * total - out.position());
+            }
+            starts[layers] = total;
+
+            ByteBuffer header = ByteBuffer.allocate((int) boardsOffset);
+            header.putInt(MAGIC).putInt(size).putInt(targetExponent).putInt(layers);
+            for (long start : starts) {
+                header.putLong(start);
+            }
+            write(channel, header, 0);
+            // extends the file to hold the values
+            channel.write(ByteBuffer.allocate(1), boardsOffset + 12 * total - 1);
+        }
+
+        Tablebase tablebase = new Tablebase(map(path, true));
+        for (int h = layers - 1; h >= 0; h--) {
+            for (long index = starts[h]; index < starts[h + 1]; index++) {
+                float value = tablebase.bestValue(tablebase.getLong(boardsOffset + 8 * index));
+                tablebase.putFloat(tablebase.valuesOffset + 4 * index, value);
+            }
+        }
+        for (MappedByteBuffer chunk : tablebase.chunks) {
+            chunk.force();
+        }
+        return tablebase;
+    }
+
+    /**
+     * @brief Get the exponent of the target tile.
+     * @return The exponent t of the target tile 2^t.
+     */
+    public int getTargetExponent() {
+        return target;
+    }
+
+    /**
+     * @brief Get the number of positions of the variant.
+     * @return The number of positions reachable from a new game with every tile
+     *         less than the target.
+     */
+    public long getPositions() {
+        return starts[starts.length - 1];
+    }
+
+    /**
+     * @brief Get the probability of reaching the target tile from the given
+     *        position with perfect play.
+     * @param board The packed board of SIZE (see the BitBoard3 and BitBoard
+     *              modules) where the player moves next.
+     * @return The win probability, which is 1 if the board already has the
+     *         target tile.
+     * @throws IllegalArgumentException If the board does not have the target
+     *                                  tile and cannot be reached from a new
+     *                                  game.
+     */
+    public float winProbability(long board) {
+        if (BitBoard.maxExponent(board) >= target) {
+            return 1;
+        }
+        long index = indexOf(board);
+        if (index < 0) {
+            throw new IllegalArgumentException("The board cannot be reached from a new game.");
+        }
+        return getFloat(valuesOffset + 4 * index);
+    }
+
+    /**
+     * @brief Get the probability of reaching the target tile from the given board
+     *        with perfect play.
+     * @param board The board where the player moves next.
+     * @return The win probability, which is 1 if the board already has the
+     *         target tile.
+     * @throws IllegalArgumentException If the board is not SIZE by SIZE, cannot
+     *                                  be packed or cannot be reached from a new
+     *                                  game.
+     */
+    public float winProbability(BoardT board) {
+        return winProbability(pack(board));
+    }
+
+    /**
+     * @brief Choose the move with the highest probability of reaching the target
+     *        tile from the given position.
+     * @param board The packed board of SIZE where the player moves next.
+     * @return The best direction. Ties are broken by the order of DirectionT.
+     * @throws IllegalStateException    If no move changes the board.
+     * @throws IllegalArgumentException If the positions after a move cannot be
+     *                                  reached from a new game (which is only
+     *                                  possible if the board cannot be either).
+     */
+    public DirectionT bestMove(long board) {
+        DirectionT best = null;
+        float bestValue = -1;
+        for (DirectionT direction : DIRECTIONS) {
+            long after = move(SIZE, board, direction);
+            if (after == board) {
+                continue;
+            }
+            float value = afterValue(after);
+            if (value > bestValue) {
+                bestValue = value;
+                best = direction;
+            }
+        }
+        if (best == null) {
+            throw new IllegalStateException("Cannot move when game is over.");
+        }
+        return best;
+    }
+
+    /**
+     * @brief Choose the move with the highest probability of reaching the target
+     *        tile from the given board.
+     * @param board The board of the game.
+     * @param rand  Unused, as the tablebase is exact.
+     * @return The best direction.
+     * @throws IllegalArgumentException If the board is not SIZE by SIZE, cannot
+     *                                  be packed or cannot be reached from a new
+     *                                  game.
+     */
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        return bestMove(pack(board));
+    }
+
+    // the win probability of the position, computed from the positions after
+    // each move and random tile
+    private float bestValue(long board) {
+        float best = 0;
+        for (DirectionT direction : DIRECTIONS) {
+            long after = move(SIZE, board, direction);
+            if (after != board) {
+                best = Math.max(best, afterValue(after));
+            }
+        }
+        return best;
+    }
+
+    // the win probability after a move and before the random tile is added
+    private float afterValue(long after) {
+        if (BitBoard.maxExponent(after) >= target) {
+            return 1;
+        }
+        double sum = 0;
+        int empty = 0;
+        for (int p = 0; p < cells; p++) {
+            if ((after >>> (p << 2) & 0xF) == 0) {
+                // the target is at least 8, so a random tile never reaches it
+                sum += 0.9 * winProbability(after | (1L << (p << 2)));
+                sum += 0.1 * winProbability(after | (2L << (p << 2)));
+                empty++;
+            }
+        }
+        return (float) (sum / empty);
+    }
+
+    // the index of the position by binary search of its layer, or -1 if it is
+    // not a position of the variant
+    private long indexOf(long board) {
+        int h = halfSum(board);
+        if (h >= starts.length - 1) {
+            return -1;
+        }
+        long low = starts[h];
+        long high = starts[h + 1] - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            long value = getLong(boardsOffset + 8 * mid);
+            if (value < board) {
+                low = mid + 1;
+            } else if (value > board) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private long getLong(long offset) {
+        return chunks[(int) (offset >>> CHUNK_BITS)].getLong((int) (offset & CHUNK_MASK));
+    }
+
+    private float getFloat(long offset) {
+        return chunks[(int) (offset >>> CHUNK_BITS)].getFloat((int) (offset & CHUNK_MASK));
+    }
+
+    private void putFloat(long offset, float value) {
+        chunks[(int) (offset >>> CHUNK_BITS)].putFloat((int) (offset & CHUNK_MASK), value);
+    }
+
+    private long pack(BoardT board) {
+        if (board.SIZE != SIZE) {
+            throw new IllegalArgumentException("The board must be the size of the tablebase.");
+        }
+        return SIZE == BitBoard3.SIZE ? BitBoard3.pack(board) : BitBoard.pack(board);
+    }
+
+    // adds the positions after every move and random tile of the position of
+    // layer h to the pending positions of layers h + 1 and h + 2
+    private static void expand(int size, int target, long board, PositionList[] pending, int h) {
+        for (DirectionT direction : DIRECTIONS) {
+            long after = move(size, board, direction);
+            if (after == board || BitBoard.maxExponent(after) >= target) {
+                continue;
+            }
+            for (int p = 0; p < size * size; p++) {
+                if ((after >>> (p << 2) & 0xF) == 0) {
+                    pending(pending, h + 1).add(after | (1L << (p << 2)));
+                    pending(pending, h + 2).add(after | (2L << (p << 2)));
+                }
+            }
+        }
+    }
+
+    private static PositionList pending(PositionList[] pending, int h) {
+        if (pending[h] == null) {
+            pending[h] = new PositionList();
+        }
+        return pending[h];
+    }
+
+    private static long move(int size, long board, DirectionT direction) {
+        return size == BitBoard3.SIZE ? BitBoard3Manager.move(board, direction)
+                : BitBoardManager.move(board, direction);
+    }
+
+    // the sum of the tiles of the board divided by 2
+    private static int halfSum(long board) {
+        int sum = 0;
+        for (; board != 0; board >>>= 4) {
+            int exponent = (int) (board & 0xF);
+            sum += exponent == 0 ? 0 : 1 << (exponent - 1);
+        }
+        return sum;
+    }
+
+    // the number of layers, as every tile is at most 2^(t - 1)
+    private static int layers(int cells, int target) {
+        return (cells << (target - 2)) + 1;
+    }
+
+    private static long boardsOffset(int layers) {
+        return (HEADER_BYTES + 8L * (layers + 1) + 7) & ~7L;
+    }
+
+    private static long bytes(MappedByteBuffer[] chunks) {
+        long bytes = 0;
+        for (MappedByteBuffer chunk : chunks) {
+            bytes += chunk.limit();
+        }
+        return bytes;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+    }
+
+    private static MappedByteBuffer[] map(Path path, boolean write) throws IOException {
+        StandardOpenOption[] options = write
+                ? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+                : new StandardOpenOption[] { StandardOpenOption.READ };
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long size = channel.size();
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) Math.max(1, (size + CHUNK_MASK) >>> CHUNK_BITS)];
+            for (int c = 0; c < chunks.length; c++) {
+                long start = (long) c << CHUNK_BITS;
+                chunks[c] = channel.map(write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                        start, Math.min(size - start, 1L << CHUNK_BITS));
+            }
+            return chunks;
+        }
+    }
+
+    // a growing list of positions that removes its duplicates whenever it is
+    // full, as most positions are reached from many positions
+    private static class PositionList {
+        private long[] positions = new long[1 << 10];
+        private int size;
+
+        void add(long position) {
+            if (size == positions.length) {
+                compact();
+                if (size > positions.length / 2) {
+                    if (positions.length == MAX_LAYER) {
+                        throw new IllegalArgumentException("A layer of the tablebase has too many positions.");
+                    }
+                    positions = Arrays.copyOf(positions, (int) Math.min(2L * positions.length, MAX_LAYER));
+                }
+            }
+            positions[size++] = position;
+        }
+
+        long[] toSortedArray() {
+            compact();
+            return Arrays.copyOf(positions, size);
+        }
+
+        private void compact() {
+            Arrays.parallelSort(positions, 0, size);
+            int unique = 0;
+            for (int k = 0; k < size; k++) {
+                if (unique == 0 || positions[k] != positions[unique - 1]) {
+                    positions[unique++] = positions[k];
+                }
+            }
+            size = unique;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: TranspositionTable Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that caches the results of searching packed boards (see the
+ *        BitBoard module) so that a board reached by different move orders is
+ *        only searched once.
+ * @details The table has a fixed number of entries (a power of two) stored
+ *          off-heap in direct buffers, so a table of several gigabytes adds
+ *          nothing for the garbage collector to trace (the JVM may need a
+ *          larger -XX:MaxDirectMemorySize). An entry holds the value of the
+ *          board, the depth it was searched to and the best move (if any),
+ *          packed into one long (the data), next to the board XORed with the
+ *          data (the check). Both words are read and written atomically but
+ *          without locks, so many threads may probe and store at once: an
+ *          entry whose words were written by different stores fails the XOR
+ *          check and is reported as a miss. Which entry a store replaces is
+ *          chosen by a ReplacementT policy.
+ */
+public class TranspositionTable {
+    /**
+     * @brief The value returned by probe when the board is not in the table.
+     */
+    public static final long MISS = 0L;
+
+    private static final long VALID = 1L << 48;
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+    // each entry is a check word followed by a data word
+    private static final int ENTRY_BYTES = 16;
+    // entries per direct buffer, so that each buffer holds 1 GiB
+    private static final int CHUNK_BITS = 26;
+
+    private final ByteBuffer[] chunks;
+    private final long capacity;
+    private final long mask;
+    private final ReplacementT policy;
+
+    /**
+     * @brief Initializes a TranspositionTable object with 2^bits entries that
+     *        always replaces the entry a stored board maps to.
+     * @param bits The base 2 logarithm of the number of entries.
+     * @throws IllegalArgumentException If bits is not in the range of [1, 30].
+     */
+    public TranspositionTable(int bits) {
+        this(bits, ReplacementT.ALWAYS);
+    }
+
+    /**
+     * @brief Initializes a TranspositionTable object with 2^bits entries.
+     * @param bits   The base 2 logarithm of the number of entries.
+     * @param policy How the entry replaced by a store is chosen.
+     * @throws IllegalArgumentException If bits is not in the range of [1, 30].
+     */
+    public TranspositionTable(int bits, ReplacementT policy) {
+        if (bits < 1 || bits > 30) {
+            throw new IllegalArgumentException("The number of bits must be in the range of [1..30].");
+        }
+        capacity = 1L << bits;
+        mask = capacity - 1;
+        this.policy = policy;
+        int chunkEntries = 1 << Math.min(bits, CHUNK_BITS);
+        chunks = new ByteBuffer[(int) (capacity / chunkEntries)];
+        for (int c = 0; c < chunks.length; c++) {
+            // aligned so that every long can be accessed atomically
+            chunks[c] = ByteBuffer.allocateDirect(chunkEntries * ENTRY_BYTES + 8).alignedSlice(8);
+        }
+    }
+
+    /**
+     * @brief Look up the entry of the given packed board.
+     * @param board The packed board.
+     * @return The entry of the board (see valueOf, depthOf and moveOf), or MISS
+     *         if the board is not in the table.
+     */
+    public long probe(long board) {
+        long index = index(board);
+        long data = read(index, board);
+        if (data == MISS && policy == ReplacementT.TWO_TIER) {
+            data = read(index + 1, board);
+        }
+        return data;
+    }
+
+    /**
+     * @brief Store the result of searching the given packed board.
+     * @param board The packed board.
+     * @param value The value of the board.
+     * @param depth The depth the board was searched to, in the range of [0, 255].
+     * @param move  The best move from the board, or null if there is none.
+     */
+    public void store(long board, float value, int depth, DirectionT move) {
+        long index = index(board);
+        long data = encode(value, depth, move);
+        if (policy == ReplacementT.ALWAYS) {
+            write(index, board, data);
+            return;
+        }
+        ByteBuffer chunk = chunk(index);
+        int offset = offset(index);
+        long oldData = (long) LONGS.getOpaque(chunk, offset + 8);
+        long oldBoard = (long) LONGS.getOpaque(chunk, offset) ^ oldData;
+        boolean replace = oldData == MISS || oldBoard == board || depth >= depthOf(oldData);
+        if (policy == ReplacementT.DEPTH_PREFERRED) {
+            if (replace) {
+                write(index, board, data);
+            }
+        } else if (replace) {
+            if (oldData != MISS && oldBoard != board) {
+                write(index + 1, oldBoard, oldData);
+            }
+            write(index, board, data);
+        } else {
+            write(index + 1, board, data);
+        }
+    }
+
+    /**
+     * @brief Remove every entry from the table.
+     * @details Not atomic with respect to stores made by other threads at the
+     *          same time.
+     */
+    public void clear() {
+        for (ByteBuffer chunk : chunks) {
+            for (int offset = 0; offset < chunk.capacity(); offset += 8) {
+                LONGS.setOpaque(chunk, offset, 0L);
+            }
+        }
+    }
+
+    /**
+     * @brief Get the number of entries of the table.
+     * @return The number of entries.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @brief Get the policy used to choose the entry replaced by a store.
+     * @return The replacement policy.
+     */
+    public ReplacementT getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @brief Get the value stored in an entry.
+     * @param entry An entry returned by probe that is not MISS.
+     * @return The value of the board.
+     */
+    public static float valueOf(long entry) {
+        return Float.intBitsToFloat((int) entry);
+    }
+
+    /**
+     * @brief Get the depth stored in an entry.
+     * @param entry An entry returned by probe that is not MISS.
+     * @return The depth the board was searched to.
+     */
+    public static int depthOf(long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    /**
+     * @brief Get the best move stored in an entry.
+     * @param entry An entry returned by probe that is not MISS.
+     * @return The best move from the board, or null if there is none.
+     */
+    public static DirectionT moveOf(long entry) {
+        int code = (int) (entry >>> 40) & 0xFF;
+        return code == 0 ? null : DIRECTIONS[code - 1];
+    }
+
+    static long encode(float value, int depth, DirectionT move) {
+        long code = move == null ? 0 : move.ordinal() + 1;
+        return (Float.floatToRawIntBits(value) & 0xFFFFFFFFL) | ((long) (depth & 0xFF) << 32) | (code << 40)
+                | VALID;
+    }
+
+    static long hash(long board) {
+        // finalizer of SplitMix64, so that boards differing in a few tiles spread
+        // over the whole table
+        long h = board;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private long index(long board) {
+        long index = hash(board) & mask;
+        // a bucket of two entries starts at an even index
+        return policy == ReplacementT.TWO_TIER ? index & ~1L : index;
+    }
+
+    private long read(long index, long board) {
+        ByteBuffer chunk = chunk(index);
+        int offset = offset(index);
+        long data = (long) LONGS.getOpaque(chunk, offset + 8);
+        long check = (long) LONGS.getOpaque(chunk, offset);
+        return data != MISS && (check ^ data) == board ? data : MISS;
+    }
+
+    private void write(long index, long board, long data) {
+        ByteBuffer chunk = chunk(index);
+        int offset = offset(index);
+        LONGS.setOpaque(chunk, offset, board ^ data);
+        LONGS.setOpaque(chunk, offset + 8, data);
+    }
+
+    private ByteBuffer chunk(long index) {
+        return chunks[(int) (index >>> CHUNK_BITS)];
+    }
+
+    private int offset(long index) {
+        return (int) (index & ((1 << CHUNK_BITS) - 1)) * ENTRY_BYTES;
+    }
+}
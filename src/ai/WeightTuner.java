@@ -0,0 +1,624 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: WeightTuner Module (Abstract Data Type)
+ */
+
+package src.ai;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import src.controller.BitBoardManager;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that tunes the weights of a HeuristicEvaluator object with the
+ *        covariance matrix adaptation evolution strategy (CMA-ES).
+ * @details Each generation samples a population of weight vectors from a
+ *          multivariate normal distribution, plays the same batch of games
+ *          (the same seeds of random tiles) with each of them, and moves the
+ *          mean, step size and covariance matrix of the distribution towards
+ *          the vectors with the highest mean score, as in "The CMA Evolution
+ *          Strategy: A Tutorial" (Hansen, 2016). Playing the same games with
+ *          every candidate (common random numbers) makes their difference in
+ *          score depend on their weights rather than on their luck. The search
+ *          is over the weights divided by the initial weights, so that terms
+ *          of very different scales are searched with the same step size. The
+ *          games of a generation are played greedily (each move maximizes the
+ *          evaluation of the board after it), in parallel on a fork-join pool,
+ *          so millions of games can be played per hour. The state of the tuner
+ *          can be saved to a checkpoint file after every generation and resumed
+ *          from it. The seeds of generation g depend only on the seed of the
+ *          tuner and g, so the results do not depend on the number of threads
+ *          or on where the tuning was resumed.
+ */
+public class WeightTuner {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final int GAMES_PER_TASK = 8;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int n;
+    private final int lambda;
+    private final int mu;
+    private final long seed;
+    private final double[] initial;
+    // the parameters of the strategy, from the defaults of the tutorial
+    private final double[] recombination;
+    private final double mueff;
+    private final double cc;
+    private final double cs;
+    private final double c1;
+    private final double cmu;
+    private final double damps;
+    private final double chiN;
+
+    private int generation;
+    private double sigma;
+    private final double[] mean;
+    private final double[][] covariance;
+    private final double[] pathC;
+    private final double[] pathSigma;
+    // covariance = basis * diag(scales^2) * basis^T
+    private final double[][] basis;
+    private final double[] scales;
+    // the steps (x - mean) / sigma of the population of the last sample
+    private double[][] steps;
+    private float[] bestWeights;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+    private final ForkJoinPool pool;
+
+    /**
+     * @brief Initializes a WeightTuner object whose distribution is centred on
+     *        the given weights.
+     * @param initial    The initial weights, indexed by EMPTY, MONOTONICITY,
+     *                   SMOOTHNESS, MERGES and CORNER of HeuristicEvaluator.
+     * @param sigma      The initial step size, as a fraction of each weight.
+     * @param population The number of weight vectors sampled per generation.
+     * @param seed       The seed that every generation's seeds are derived
+     *                   from.
+     * @param threads    The number of threads to play games on.
+     * @throws IllegalArgumentException If the number of weights is not
+     *                                  HeuristicEvaluator.WEIGHTS, the step size
+     *                                  is not positive, the population is less
+     *                                  than 4 or the number of threads is less
+     *                                  than 1.
+     */
+    public WeightTuner(float[] initial, double sigma, int population, long seed, int threads) {
+        if (initial.length != HeuristicEvaluator.WEIGHTS) {
+            throw new IllegalArgumentException("The number of weights must be " + HeuristicEvaluator.WEIGHTS + ".");
+        }
+        if (!(sigma > 0) || population < 4 || threads < 1) {
+            throw new IllegalArgumentException(
+                    "The step size must be positive, the population at least 4 and the threads at least 1.");
+        }
+        n = initial.length;
+        lambda = population;
+        mu = population / 2;
+        this.seed = seed;
+        this.initial = new double[n];
+        for (int i = 0; i < n; i++) {
+            // a weight of 0 is searched on the scale of 1
+            this.initial[i] = initial[i] == 0 ? 1 : initial[i];
+        }
+
+        recombination = new double[mu];
+        double sum = 0;
+        double sumSquares = 0;
+        for (int i = 0; i < mu; i++) {
+            recombination[i] = Math.log(mu + 0.5) - Math.log(i + 1);
+            sum += recombination[i];
+        }
+        for (int i = 0; i < mu; i++) {
+            recombination[i] /= sum;
+            sumSquares += recombination[i] * recombination[i];
+        }
+        mueff = 1 / sumSquares;
+        cc = (4 + mueff / n) / (n + 4 + 2 * mueff / n);
+        cs = (mueff + 2) / (n + mueff + 5);
+        c1 = 2 / ((n + 1.3) * (n + 1.3) + mueff);
+        cmu = Math.min(1 - c1, 2 * (mueff - 2 + 1 / mueff) / ((n + 2) * (n + 2) + mueff));
+        damps = 1 + 2 * Math.max(0, Math.sqrt((mueff - 1) / (n + 1)) - 1) + cs;
+        chiN = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21.0 * n * n));
+
+        this.sigma = sigma;
+        mean = new double[n];
+        Arrays.fill(mean, 1);
+        covariance = new double[n][n];
+        basis = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            covariance[i][i] = 1;
+            basis[i][i] = 1;
+        }
+        scales = new double[n];
+        Arrays.fill(scales, 1);
+        pathC = new double[n];
+        pathSigma = new double[n];
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * @brief Initializes a WeightTuner object from a checkpoint file written by
+     *        save.
+     * @param checkpoint The checkpoint file.
+     * @param threads    The number of threads to play games on.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a checkpoint or the
+     *                                  number of threads is less than 1.
+     */
+    public WeightTuner(Path checkpoint, int threads) throws IOException {
+        this(read(checkpoint), threads);
+    }
+
+    private WeightTuner(Properties state, int threads) {
+        this(toFloats(doubles(state, "initial", HeuristicEvaluator.WEIGHTS)), 1,
+                integer(state, "population"), Long.parseLong(property(state, "seed")), threads);
+        generation = integer(state, "generation");
+        sigma = Double.parseDouble(property(state, "sigma"));
+        System.arraycopy(doubles(state, "mean", n), 0, mean, 0, n);
+        double[] flat = doubles(state, "covariance", n * n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(flat, i * n, covariance[i], 0, n);
+        }
+        System.arraycopy(doubles(state, "pathC", n), 0, pathC, 0, n);
+        System.arraycopy(doubles(state, "pathSigma", n), 0, pathSigma, 0, n);
+        if (state.getProperty("bestWeights") != null) {
+            bestWeights = toFloats(doubles(state, "bestWeights", n));
+            bestFitness = Double.parseDouble(property(state, "bestFitness"));
+        }
+        decompose();
+    }
+
+    /**
+     * @brief Run one generation: sample the population, play the given number
+     *        of games with each candidate and update the distribution.
+     * @param games The number of games played by each candidate.
+     * @return The mean score of each candidate, in the order of sample.
+     * @throws IllegalArgumentException If the number of games is less than 1.
+     */
+    public double[] step(int games) {
+        float[][] candidates = sample();
+        double[] fitness = evaluate(candidates, games);
+        update(fitness);
+        return fitness;
+    }
+
+    /**
+     * @brief Sample the population of the current generation.
+     * @return The weight vectors of the population. Sampling again before
+     *         update returns the same population.
+     */
+    public float[][] sample() {
+        SplittableRandom rand = generationRandom(0);
+        steps = new double[lambda][n];
+        float[][] candidates = new float[lambda][];
+        double[] z = new double[n];
+        for (int k = 0; k < lambda; k++) {
+            for (int i = 0; i < n; i++) {
+                z[i] = rand.nextGaussian() * scales[i];
+            }
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    steps[k][i] += basis[i][j] * z[j];
+                }
+                x[i] = mean[i] + sigma * steps[k][i];
+            }
+            candidates[k] = toWeights(x);
+        }
+        return candidates;
+    }
+
+    /**
+     * @brief Play the same games with each of the given weight vectors.
+     * @details The seeds of the games are derived from the seed of the tuner
+     *          and the current generation, so every candidate of a generation
+     *          plays the same random tiles.
+     * @param candidates The weight vectors to evaluate.
+     * @param games      The number of games played by each candidate.
+     * @return The mean score of each candidate.
+     * @throws IllegalArgumentException If the number of games is less than 1.
+     */
+    public double[] evaluate(float[][] candidates, int games) {
+        if (games < 1) {
+            throw new IllegalArgumentException("The number of games must be at least 1.");
+        }
+        SplittableRandom rand = generationRandom(1);
+        long[] seeds = new long[games];
+        for (int g = 0; g < games; g++) {
+            seeds[g] = rand.nextLong();
+        }
+        HeuristicEvaluator[] evaluators = new HeuristicEvaluator[candidates.length];
+        for (int k = 0; k < candidates.length; k++) {
+            evaluators[k] = new HeuristicEvaluator(candidates[k]);
+        }
+        int[] scores = new int[candidates.length * games];
+        pool.invoke(new PlayGames(0, scores.length, evaluators, seeds, scores));
+
+        double[] fitness = new double[candidates.length];
+        for (int s = 0; s < scores.length; s++) {
+            fitness[s / games] += scores[s];
+        }
+        for (int k = 0; k < candidates.length; k++) {
+            fitness[k] /= games;
+        }
+        return fitness;
+    }
+
+    /**
+     * @brief Update the distribution from the fitness of the population of the
+     *        last sample and advance to the next generation.
+     * @param fitness The fitness of each candidate (higher is better), in the
+     *                order of sample.
+     * @throws IllegalStateException    If the population was not sampled.
+     * @throws IllegalArgumentException If the number of fitness values is not
+     *                                  the size of the population.
+     */
+    public void update(double[] fitness) {
+        if (steps == null) {
+            throw new IllegalStateException("The population must be sampled before it is updated.");
+        }
+        if (fitness.length != lambda) {
+            throw new IllegalArgumentException("The number of fitness values must be the size of the population.");
+        }
+        Integer[] order = new Integer[lambda];
+        for (int k = 0; k < lambda; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        if (fitness[order[0]] > bestFitness) {
+            bestFitness = fitness[order[0]];
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = mean[i] + sigma * steps[order[0]][i];
+            }
+            bestWeights = toWeights(x);
+        }
+
+        double[] stepMean = new double[n];
+        for (int r = 0; r < mu; r++) {
+            for (int i = 0; i < n; i++) {
+                stepMean[i] += recombination[r] * steps[order[r]][i];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            mean[i] += sigma * stepMean[i];
+        }
+
+        // the step mean whitened by covariance^(-1/2) = basis * diag(1 /
+        // scales) * basis^T
+        double[] rotated = new double[n];
+        for (int j = 0; j < n; j++) {
+            for (int i = 0; i < n; i++) {
+                rotated[j] += basis[i][j] * stepMean[i];
+            }
+            rotated[j] /= scales[j];
+        }
+        double normSigma = 0;
+        for (int i = 0; i < n; i++) {
+            double whitened = 0;
+            for (int j = 0; j < n; j++) {
+                whitened += basis[i][j] * rotated[j];
+            }
+            pathSigma[i] = (1 - cs) * pathSigma[i] + Math.sqrt(cs * (2 - cs) * mueff) * whitened;
+            normSigma += pathSigma[i] * pathSigma[i];
+        }
+        normSigma = Math.sqrt(normSigma);
+        boolean stalled = normSigma / Math.sqrt(1 - Math.pow(1 - cs, 2 * (generation + 1))) / chiN
+                >= 1.4 + 2.0 / (n + 1);
+        double hsig = stalled ? 0 : 1;
+        for (int i = 0; i < n; i++) {
+            pathC[i] = (1 - cc) * pathC[i] + hsig * Math.sqrt(cc * (2 - cc) * mueff) * stepMean[i];
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double rankMu = 0;
+                for (int r = 0; r < mu; r++) {
+                    rankMu += recombination[r] * steps[order[r]][i] * steps[order[r]][j];
+                }
+                double value = (1 - c1 - cmu) * covariance[i][j]
+                        + c1 * (pathC[i] * pathC[j] + (1 - hsig) * cc * (2 - cc) * covariance[i][j])
+                        + cmu * rankMu;
+                covariance[i][j] = value;
+                covariance[j][i] = value;
+            }
+        }
+        sigma *= Math.exp(cs / damps * (normSigma / chiN - 1));
+        decompose();
+        steps = null;
+        generation++;
+    }
+
+    /**
+     * @brief Write the state of the tuner to a checkpoint file.
+     * @details The file is written next to the checkpoint and then moved over
+     *          it, so an interrupted save leaves the previous checkpoint.
+     * @param checkpoint The checkpoint file. It is replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path checkpoint) throws IOException {
+        Properties state = new Properties();
+        state.setProperty("population", Integer.toString(lambda));
+        state.setProperty("seed", Long.toString(seed));
+        state.setProperty("initial", join(initial));
+        state.setProperty("generation", Integer.toString(generation));
+        state.setProperty("sigma", Double.toString(sigma));
+        state.setProperty("mean", join(mean));
+        double[] flat = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(covariance[i], 0, flat, i * n, n);
+        }
+        state.setProperty("covariance", join(flat));
+        state.setProperty("pathC", join(pathC));
+        state.setProperty("pathSigma", join(pathSigma));
+        if (bestWeights != null) {
+            double[] best = new double[n];
+            for (int i = 0; i < n; i++) {
+                best[i] = bestWeights[i];
+            }
+            state.setProperty("bestWeights", join(best));
+            state.setProperty("bestFitness", Double.toString(bestFitness));
+        }
+
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary)) {
+            state.store(writer, "WeightTuner checkpoint");
+        }
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @brief Get the number of generations that have been updated.
+     * @return The current generation, starting from 0.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @brief Get the mean of the distribution.
+     * @return The weights at the mean of the distribution.
+     */
+    public float[] getWeights() {
+        return toWeights(mean);
+    }
+
+    /**
+     * @brief Get the step size of the distribution.
+     * @return The step size, as a fraction of the initial weights.
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * @brief Get the candidate with the highest fitness of every generation.
+     * @return A copy of the best weights, or null if no generation was updated.
+     */
+    public float[] getBestWeights() {
+        return bestWeights == null ? null : bestWeights.clone();
+    }
+
+    /**
+     * @brief Get the highest fitness of every generation.
+     * @return The fitness of the best weights, or negative infinity if no
+     *         generation was updated.
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * @brief Shut down the fork-join pool of the tuner. The tuner cannot
+     *        evaluate weights afterwards.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * @brief Play a game from a new game, choosing each move to maximize the
+     *        evaluation of the board after it.
+     * @param evaluator The evaluation of the boards.
+     * @param seed      The seed of the random tiles.
+     * @return The score of the game.
+     */
+    public static int playGame(HeuristicEvaluator evaluator, long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        long board = BitBoardManager.addRandomTile(BitBoardManager.addRandomTile(0L, rand), rand);
+        int score = 0;
+        while (true) {
+            DirectionT best = null;
+            long bestAfter = board;
+            float bestValue = Float.NEGATIVE_INFINITY;
+            for (DirectionT direction : DIRECTIONS) {
+                long after = BitBoardManager.move(board, direction);
+                if (after == board) {
+                    continue;
+                }
+                float value = evaluator.evaluate(after);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = direction;
+                    bestAfter = after;
+                }
+            }
+            if (best == null) {
+                return score;
+            }
+            score += BitBoardManager.scoreFromMove(board, best);
+            board = BitBoardManager.addRandomTile(bestAfter, rand);
+        }
+    }
+
+    // the source of randomness of the current generation (stream 0 samples
+    // the population and stream 1 the seeds of the games)
+    private SplittableRandom generationRandom(int stream) {
+        return new SplittableRandom(seed + GOLDEN_GAMMA * (2L * generation + stream + 1));
+    }
+
+    private float[] toWeights(double[] x) {
+        float[] weights = new float[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = (float) (x[i] * initial[i]);
+        }
+        return weights;
+    }
+
+    // sets basis and scales to the eigenvectors and the square roots of the
+    // eigenvalues of the covariance by the cyclic Jacobi method
+    private void decompose() {
+        double[][] a = new double[n][];
+        for (int i = 0; i < n; i++) {
+            a[i] = covariance[i].clone();
+            Arrays.fill(basis[i], 0);
+            basis[i][i] = 1;
+        }
+        for (int sweep = 0; sweep < 50; sweep++) {
+            double off = 0;
+            for (int p = 0; p < n; p++) {
+                for (int q = p + 1; q < n; q++) {
+                    off += a[p][q] * a[p][q];
+                }
+            }
+            if (off < 1e-30) {
+                break;
+            }
+            for (int p = 0; p < n; p++) {
+                for (int q = p + 1; q < n; q++) {
+                    if (a[p][q] == 0) {
+                        continue;
+                    }
+                    double theta = (a[q][q] - a[p][p]) / (2 * a[p][q]);
+                    double t = Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+                    if (theta == 0) {
+                        t = 1;
+                    }
+                    double c = 1 / Math.sqrt(t * t + 1);
+                    double s = t * c;
+                    for (int k = 0; k < n; k++) {
+                        double akp = a[k][p];
+                        double akq = a[k][q];
+                        a[k][p] = c * akp - s * akq;
+                        a[k][q] = s * akp + c * akq;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double apk = a[p][k];
+                        double aqk = a[q][k];
+                        a[p][k] = c * apk - s * aqk;
+                        a[q][k] = s * apk + c * aqk;
+                    }
+                    for (int k = 0; k < n; k++) {
+                        double vkp = basis[k][p];
+                        double vkq = basis[k][q];
+                        basis[k][p] = c * vkp - s * vkq;
+                        basis[k][q] = s * vkp + c * vkq;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            // rounding may leave a tiny negative eigenvalue
+            scales[i] = Math.sqrt(Math.max(a[i][i], 1e-20));
+        }
+    }
+
+    private static Properties read(Path checkpoint) throws IOException {
+        Properties state = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint)) {
+            state.load(reader);
+        }
+        return state;
+    }
+
+    private static String property(Properties state, String key) {
+        String value = state.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("The checkpoint has no " + key + ".");
+        }
+        return value;
+    }
+
+    private static int integer(Properties state, String key) {
+        try {
+            return Integer.parseInt(property(state, key));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The " + key + " of the checkpoint is not a number.", e);
+        }
+    }
+
+    private static double[] doubles(Properties state, String key, int length) {
+        String[] parts = property(state, key).split(",");
+        if (parts.length != length) {
+            throw new IllegalArgumentException("The " + key + " of the checkpoint must have " + length + " values.");
+        }
+        double[] values = new double[length];
+        try {
+            for (int i = 0; i < length; i++) {
+                values[i] = Double.parseDouble(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The " + key + " of the checkpoint is not a number.", e);
+        }
+        return values;
+    }
+
+    private static String join(double[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            builder.append(i == 0 ? "" : ",").append(values[i]);
+        }
+        return builder.toString();
+    }
+
+    private static float[] toFloats(double[] values) {
+        float[] floats = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            floats[i] = (float) values[i];
+        }
+        return floats;
+    }
+
+    // plays a range of the games (the task is never serialized)
+    @SuppressWarnings("serial")
+    private static class PlayGames extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final HeuristicEvaluator[] evaluators;
+        private final long[] seeds;
+        private final int[] scores;
+
+        PlayGames(int from, int to, HeuristicEvaluator[] evaluators, long[] seeds, int[] scores) {
+            this.from = from;
+            this.to = to;
+            this.evaluators = evaluators;
+            this.seeds = seeds;
+            this.scores = scores;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new PlayGames(from, mid, evaluators, seeds, scores),
+                        new PlayGames(mid, to, evaluators, seeds, scores));
+                return;
+            }
+            // game s is game s % games of candidate s / games
+            for (int s = from; s < to; s++) {
+                scores[s] = playGame(evaluators[s / seeds.length], seeds[s % seeds.length]);
+            }
+        }
+    }
+}
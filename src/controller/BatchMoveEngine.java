@@ -0,0 +1,60 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BatchMoveEngine Module (Interface Module)
+ */
+
+package src.controller;
+
+import src.model.BoardBatchT;
+import src.model.DirectionT;
+
+/**
+ * @brief An interface for making the same move on every board of a batch (see
+ *        the BoardBatchT module) at once, e.g. to evaluate the successors of a
+ *        search frontier.
+ * @details Every implementation gives the same results as BoardManager.move
+ *          applied to each board of the batch. The ScalarMoveEngine module
+ *          works on any Java runtime and the VectorMoveEngine module uses the
+ *          Java Vector API, which requires the jdk.incubator.vector module.
+ *          An engine may keep scratch space between calls, so an engine is not
+ *          safe to share between threads.
+ */
+public interface BatchMoveEngine {
+    /**
+     * @brief Make a move in the given direction on every board of the given
+     *        batch.
+     * @param boards    The batch of boards to be moved.
+     * @param direction The direction that the boards are being moved in.
+     * @param out       The batch that the resulting boards are written to, with
+     *                  its count set to the count of boards. It may be the same
+     *                  object as boards.
+     * @param points    Element k is set to the number of points accumulated from
+     *                  the move of board k.
+     * @param changed   Element k is set to true if the move changes board k.
+     * @throws IllegalArgumentException If out is not the same size as boards or
+     *                                  out, points or changed cannot hold every
+     *                                  board of the batch.
+     */
+    public void move(BoardBatchT boards, DirectionT direction, BoardBatchT out, int[] points, boolean[] changed);
+
+    /**
+     * @brief Create the fastest engine available in the running Java runtime.
+     * @return A VectorMoveEngine object if the jdk.incubator.vector module is
+     *         available (e.g. with --add-modules jdk.incubator.vector), or a
+     *         ScalarMoveEngine object otherwise.
+     */
+    public static BatchMoveEngine create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // loaded by name so that this module links without the Vector API
+                Class<?> vector = Class.forName("src.controller.VectorMoveEngine");
+                return (BatchMoveEngine) vector.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // use the scalar engine
+            }
+        }
+        return new ScalarMoveEngine();
+    }
+}
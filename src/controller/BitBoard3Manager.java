@@ -0,0 +1,173 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BitBoard3Manager Module (Library)
+ */
+
+package src.controller;
+
+import java.util.random.RandomGenerator;
+
+import src.model.BitBoard;
+import src.model.BitBoard3;
+import src.model.DirectionT;
+
+/**
+ * @brief A library containing functions for making moves on packed 3x3 boards
+ *        (see the BitBoard3 module) using precomputed lookup tables.
+ * @details Every possible 12-bit row is mapped to the row resulting from
+ *          moving it to the left and to the right, as well as the points
+ *          accumulated, in the same way as BitBoardManager does for 4x4 boards
+ *          (so two tiles with the exponent BitBoard.MAX_EXPONENT are never
+ *          merged).
+ */
+public abstract class BitBoard3Manager {
+    private static final int ROWS = 1 << 12;
+
+    private static final char[] ROW_LEFT = new char[ROWS];
+    private static final char[] ROW_RIGHT = new char[ROWS];
+    private static final int[] ROW_SCORE = new int[ROWS];
+
+    static {
+        int[] line = new int[BitBoard3.SIZE];
+        for (int row = 0; row < ROWS; row++) {
+            for (int i = 0; i < BitBoard3.SIZE; i++) {
+                line[i] = (row >>> (i << 2)) & 0xF;
+            }
+            ROW_SCORE[row] = slideLeft(line);
+            ROW_LEFT[row] = (char) toRow(line);
+            ROW_RIGHT[reverseRow(row)] = (char) reverseRow(ROW_LEFT[row]);
+        }
+    }
+
+    /**
+     * @brief Return the packed 3x3 board resulting from moving the given packed
+     *        board in the given direction (i.e. aligned, merged and aligned).
+     * @param board     The packed board to be moved.
+     * @param direction The direction that the board is being moved in.
+     * @return The packed board after the move. It is equal to the given board if
+     *         the move does not change the board.
+     */
+    public static long move(long board, DirectionT direction) {
+        if (direction == DirectionT.LEFT) {
+            return moveRows(board, ROW_LEFT);
+        } else if (direction == DirectionT.RIGHT) {
+            return moveRows(board, ROW_RIGHT);
+        } else if (direction == DirectionT.UP) {
+            return BitBoard3.transpose(moveRows(BitBoard3.transpose(board), ROW_LEFT));
+        } else {
+            return BitBoard3.transpose(moveRows(BitBoard3.transpose(board), ROW_RIGHT));
+        }
+    }
+
+    /**
+     * @brief Calculate the points accumulated from moving the given packed 3x3
+     *        board in the given direction.
+     * @param board     The packed board to be moved.
+     * @param direction The direction that the board is being moved in.
+     * @return The number of points accumulated from the move.
+     */
+    public static int scoreFromMove(long board, DirectionT direction) {
+        if (direction == DirectionT.UP || direction == DirectionT.DOWN) {
+            board = BitBoard3.transpose(board);
+        }
+        return ROW_SCORE[BitBoard3.getRow(board, 0)] + ROW_SCORE[BitBoard3.getRow(board, 1)]
+                + ROW_SCORE[BitBoard3.getRow(board, 2)];
+    }
+
+    /**
+     * @brief Check if a move in the given direction changes the packed 3x3 board.
+     * @param board     The packed board to be moved.
+     * @param direction The direction to be moved in.
+     * @return True if the board resulting from the move is not equal to the given
+     *         board.
+     */
+    public static boolean canMove(long board, DirectionT direction) {
+        return move(board, direction) != board;
+    }
+
+    /**
+     * @brief Check if no move can change the packed 3x3 board.
+     * @param board The packed board.
+     * @return True if one cannot move in all four directions.
+     */
+    public static boolean isGameOver(long board) {
+        if (BitBoard3.emptyMask(board) != 0) {
+            return false;
+        }
+        long transposed = BitBoard3.transpose(board);
+        return moveRows(board, ROW_LEFT) == board && moveRows(transposed, ROW_LEFT) == transposed;
+    }
+
+    /**
+     * @brief Return the packed 3x3 board with a random tile added to a random
+     *        empty position.
+     * @details The tile is chosen in the same way as BoardManager.addRandomTile,
+     *          so the same source of randomness adds the same tile to a board
+     *          whether it is packed or not.
+     * @param board The packed board to add a random tile to.
+     * @param rand  The source of randomness used to choose the tile.
+     * @return The packed board with the random tile added.
+     * @throws IllegalStateException If the given board is full.
+     */
+    public static long addRandomTile(long board, RandomGenerator rand) {
+        int empty = BitBoard3.emptyMask(board);
+        if (empty == 0) {
+            throw new IllegalStateException("Cannot add random tile when board is full.");
+        }
+        for (int n = rand.nextInt(Integer.bitCount(empty)); n > 0; n--) {
+            empty &= empty - 1;
+        }
+        int position = Integer.numberOfTrailingZeros(empty);
+        long exponent = rand.nextDouble() < 0.9 ? 1 : 2;
+        return board | (exponent << (position << 2));
+    }
+
+    private static long moveRows(long board, char[] table) {
+        return (long) table[BitBoard3.getRow(board, 0)]
+                | ((long) table[BitBoard3.getRow(board, 1)] << 12)
+                | ((long) table[BitBoard3.getRow(board, 2)] << 24);
+    }
+
+    private static int slideLeft(int[] line) {
+        int score = 0;
+        int w = 0;
+        int pending = 0;
+        for (int k = 0; k < line.length; k++) {
+            int exponent = line[k];
+            if (exponent == 0) {
+                continue;
+            }
+            if (pending == 0) {
+                pending = exponent;
+            } else if (pending == exponent && exponent < BitBoard.MAX_EXPONENT) {
+                line[w++] = exponent + 1;
+                score += BitBoard.toValue(exponent + 1);
+                pending = 0;
+            } else {
+                line[w++] = pending;
+                pending = exponent;
+            }
+        }
+        if (pending != 0) {
+            line[w++] = pending;
+        }
+        while (w < line.length) {
+            line[w++] = 0;
+        }
+        return score;
+    }
+
+    private static int toRow(int[] line) {
+        int row = 0;
+        for (int i = 0; i < line.length; i++) {
+            row |= line[i] << (i << 2);
+        }
+        return row;
+    }
+
+    private static int reverseRow(int row) {
+        return ((row & 0xF) << 8) | (row & 0xF0) | (row >>> 8);
+    }
+}
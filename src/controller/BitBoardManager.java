@@ -0,0 +1,220 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BitBoardManager Module (Library)
+ */
+
+package src.controller;
+
+import java.util.random.RandomGenerator;
+
+import src.model.BitBoard;
+import src.model.DirectionT;
+
+/**
+ * @brief A library containing functions for making moves on packed boards
+ *        (see the BitBoard module) using precomputed lookup tables.
+ * @details Every possible 16-bit row is mapped to the row resulting from
+ *          aligning, merging and aligning it to the left and to the right, as
+ *          well as the points accumulated from the merge. A move is then four
+ *          table lookups (plus a transpose for UP and DOWN). The result of a
+ *          move is the same as BoardManager.align, BoardManager.merge and
+ *          BoardManager.align applied to the unpacked board, except that two
+ *          tiles with the largest exponent (BitBoard.MAX_EXPONENT) are never
+ *          merged as the result cannot be stored.
+ */
+public abstract class BitBoardManager {
+    private static final int ROWS = 1 << 16;
+
+    private static final char[] ROW_LEFT = new char[ROWS];
+    private static final char[] ROW_RIGHT = new char[ROWS];
+    private static final int[] ROW_SCORE = new int[ROWS];
+
+    static {
+        int[] line = new int[BitBoard.SIZE];
+        for (int row = 0; row < ROWS; row++) {
+            for (int i = 0; i < BitBoard.SIZE; i++) {
+                line[i] = (row >>> (i << 2)) & 0xF;
+            }
+            ROW_SCORE[row] = slideLeft(line);
+            ROW_LEFT[row] = (char) toRow(line);
+            ROW_RIGHT[reverseRow(row)] = (char) reverseRow(ROW_LEFT[row]);
+        }
+    }
+
+    /**
+     * @brief Return the packed board resulting from moving the given packed board
+     *        in the given direction (i.e. aligned, merged and aligned).
+     * @param board     The packed board to be moved.
+     * @param direction The direction that the board is being moved in.
+     * @return The packed board after the move. It is equal to the given board if
+     *         the move does not change the board.
+     */
+    public static long move(long board, DirectionT direction) {
+        if (direction == DirectionT.LEFT) {
+            return moveRows(board, ROW_LEFT);
+        } else if (direction == DirectionT.RIGHT) {
+            return moveRows(board, ROW_RIGHT);
+        } else if (direction == DirectionT.UP) {
+            return BitBoard.transpose(moveRows(BitBoard.transpose(board), ROW_LEFT));
+        } else {
+            return BitBoard.transpose(moveRows(BitBoard.transpose(board), ROW_RIGHT));
+        }
+    }
+
+    /**
+     * @brief Calculate the points accumulated from moving the given packed board
+     *        in the given direction.
+     * @details For every pair of duplicate tiles that are merged, the amount of
+     *          points accumulated is double the value of the tile.
+     * @param board     The packed board to be moved.
+     * @param direction The direction that the board is being moved in.
+     * @return The number of points accumulated from the move.
+     */
+    public static int scoreFromMove(long board, DirectionT direction) {
+        if (direction == DirectionT.UP || direction == DirectionT.DOWN) {
+            board = BitBoard.transpose(board);
+        }
+        // a row merges the same pairs whether it is moved left or right
+        return ROW_SCORE[BitBoard.getRow(board, 0)] + ROW_SCORE[BitBoard.getRow(board, 1)]
+                + ROW_SCORE[BitBoard.getRow(board, 2)] + ROW_SCORE[BitBoard.getRow(board, 3)];
+    }
+
+    /**
+     * @brief Make a move in the given direction on every packed board of the
+     *        given array.
+     * @details Element k of each output is the same as move, scoreFromMove and
+     *          canMove applied to boards[k], but each board is transposed and
+     *          looked up once for all three, and no objects are allocated.
+     * @param boards    The packed boards to be moved.
+     * @param direction The direction that the boards are being moved in.
+     * @param out       Element k is set to boards[k] after the move. It may be
+     *                  the same array as boards.
+     * @param points    Element k is set to the number of points accumulated from
+     *                  the move of boards[k].
+     * @param changed   Element k is set to true if the move changes boards[k].
+     * @throws IllegalArgumentException If out, points or changed is shorter than
+     *                                  boards.
+     */
+    public static void move(long[] boards, DirectionT direction, long[] out, int[] points, boolean[] changed) {
+        if (out.length < boards.length || points.length < boards.length || changed.length < boards.length) {
+            throw new IllegalArgumentException("The outputs must be able to hold every board of the array.");
+        }
+        boolean vertical = direction == DirectionT.UP || direction == DirectionT.DOWN;
+        char[] table = direction == DirectionT.LEFT || direction == DirectionT.UP ? ROW_LEFT : ROW_RIGHT;
+        for (int k = 0; k < boards.length; k++) {
+            long board = vertical ? BitBoard.transpose(boards[k]) : boards[k];
+            int row0 = BitBoard.getRow(board, 0);
+            int row1 = BitBoard.getRow(board, 1);
+            int row2 = BitBoard.getRow(board, 2);
+            int row3 = BitBoard.getRow(board, 3);
+            long moved = (long) table[row0] | ((long) table[row1] << 16) | ((long) table[row2] << 32)
+                    | ((long) table[row3] << 48);
+            points[k] = ROW_SCORE[row0] + ROW_SCORE[row1] + ROW_SCORE[row2] + ROW_SCORE[row3];
+            changed[k] = moved != board;
+            out[k] = vertical ? BitBoard.transpose(moved) : moved;
+        }
+    }
+
+    /**
+     * @brief Check if a move in the given direction changes the packed board.
+     * @param board     The packed board to be moved.
+     * @param direction The direction to be moved in.
+     * @return True if the board resulting from the move is not equal to the given
+     *         board.
+     */
+    public static boolean canMove(long board, DirectionT direction) {
+        return move(board, direction) != board;
+    }
+
+    /**
+     * @brief Check if no move can change the packed board.
+     * @param board The packed board.
+     * @return True if one cannot move in all four directions.
+     */
+    public static boolean isGameOver(long board) {
+        if (BitBoard.countEmpty(board) > 0) {
+            return false;
+        }
+        // on a full board, a row that cannot move left cannot move right either
+        long transposed = BitBoard.transpose(board);
+        return moveRows(board, ROW_LEFT) == board && moveRows(transposed, ROW_LEFT) == transposed;
+    }
+
+    /**
+     * @brief Return the packed board with a random tile added to a random empty
+     *        position.
+     * @details The position is chosen uniformly among the empty tiles and the
+     *          value of the tile has a 90% chance of a 2 and a 10% chance of a 4
+     *          (as in BoardManager.addRandomTile).
+     * @param board The packed board to add a random tile to.
+     * @param rand  The source of randomness used to choose the tile.
+     * @return The packed board with the random tile added.
+     * @throws IllegalStateException If the given board is full.
+     */
+    public static long addRandomTile(long board, RandomGenerator rand) {
+        int empty = BitBoard.emptyMask(board);
+        if (empty == 0) {
+            throw new IllegalStateException("Cannot add random tile when board is full.");
+        }
+        int position = nthSetBit(empty, rand.nextInt(Integer.bitCount(empty)));
+        long exponent = rand.nextDouble() < 0.9 ? 1 : 2;
+        return board | (exponent << (position << 2));
+    }
+
+    private static int nthSetBit(int mask, int n) {
+        for (int k = 0; k < n; k++) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    private static long moveRows(long board, char[] table) {
+        return (long) table[BitBoard.getRow(board, 0)]
+                | ((long) table[BitBoard.getRow(board, 1)] << 16)
+                | ((long) table[BitBoard.getRow(board, 2)] << 32)
+                | ((long) table[BitBoard.getRow(board, 3)] << 48);
+    }
+
+    private static int slideLeft(int[] line) {
+        int score = 0;
+        int w = 0;
+        int pending = 0;
+        for (int k = 0; k < line.length; k++) {
+            int exponent = line[k];
+            if (exponent == 0) {
+                continue;
+            }
+            if (pending == 0) {
+                pending = exponent;
+            } else if (pending == exponent && exponent < BitBoard.MAX_EXPONENT) {
+                line[w++] = exponent + 1;
+                score += BitBoard.toValue(exponent + 1);
+                pending = 0;
+            } else {
+                line[w++] = pending;
+                pending = exponent;
+            }
+        }
+        if (pending != 0) {
+            line[w++] = pending;
+        }
+        while (w < line.length) {
+            line[w++] = 0;
+        }
+        return score;
+    }
+
+    private static int toRow(int[] line) {
+        int row = 0;
+        for (int i = 0; i < line.length; i++) {
+            row |= line[i] << (i << 2);
+        }
+        return row;
+    }
+
+    private static int reverseRow(int row) {
+        return ((row & 0xF) << 12) | ((row & 0xF0) << 4) | ((row >>> 4) & 0xF0) | (row >>> 12);
+    }
+}
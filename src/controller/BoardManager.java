@@ -1,25 +1,37 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 10, 2021
+ * Revised: October 18, 2026
  *
  * Description: BoardManager Module (Library)
  */
 
 package src.controller;
 
-import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import src.model.BoardT;
 import src.model.DirectionT;
+import src.model.MoveResultT;
 
 /**
  * @brief A library containing useful functions for manipulating BoardT objects.
- * @details Note: All methods do not change the state of the BoardT object
- *          passed in. Instead, a new BoardT object is returned.
+ * @details Note: The methods that return a BoardT object do not change the
+ *          state of the BoardT object passed in. Instead, a new BoardT object
+ *          is returned. Each of them has an overload that writes its result
+ *          into a BoardT object supplied by the caller (which may be the board
+ *          passed in) so that no memory is allocated.
  */
 public abstract class BoardManager {
 
+    /**
+     * @brief The value returned by the in-place move when the move does not
+     *        change the board.
+     */
+    public static final int UNCHANGED = -1;
+
+    private static final SplittableRandom RANDOM = new SplittableRandom();
+
     /**
      * @brief Return a new BoardT object such that for every pair of duplicate
      *        tiles, the value of the tile in "front" is doubled and the value of
@@ -30,57 +42,35 @@ public abstract class BoardManager {
      *         direction.
      */
     public static BoardT merge(BoardT board, DirectionT direction) {
-        BoardT newBoard = board.copy();
-        if (direction == DirectionT.LEFT) {
-            int[] x_s = range(0, board.SIZE - 1);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeHorizontal(board, x_s, i, j)) {
-                        newBoard.setTile(i, j, board.getTile(i, j) + board.getTile(i + 1, j));
-                    } else if (!shouldMergeHorizontal(board, x_s, i, j)
-                            && shouldMergeHorizontal(board, x_s, i - 1, j)) {
-                        newBoard.setTile(i, j, 0);
-                    }
-                }
-            }
-        } else if (direction == DirectionT.RIGHT) {
-            int[] x_s = range(board.SIZE - 1, 0);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeHorizontal(board, x_s, i, j)) {
-                        newBoard.setTile(board.SIZE - 1 - i, j,
-                                board.getTile(board.SIZE - 1 - i, j) + board.getTile(board.SIZE - 1 - i - 1, j));
-                    } else if (!shouldMergeHorizontal(board, x_s, i, j)
-                            && shouldMergeHorizontal(board, x_s, i - 1, j)) {
-                        newBoard.setTile(board.SIZE - 1 - i, j, 0);
-                    }
-                }
-            }
-        } else if (direction == DirectionT.UP) {
-            int[] y_s = range(0, board.SIZE - 1);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeVertical(board, y_s, i, j)) {
-                        newBoard.setTile(i, j, board.getTile(i, j) + board.getTile(i, j + 1));
-                    } else if (!shouldMergeVertical(board, y_s, i, j) && shouldMergeVertical(board, y_s, i, j - 1)) {
-                        newBoard.setTile(i, j, 0);
-                    }
-                }
-            }
-        } else if (direction == DirectionT.DOWN) {
-            int[] y_s = range(board.SIZE - 1, 0);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeVertical(board, y_s, i, j)) {
-                        newBoard.setTile(i, board.SIZE - 1 - j,
-                                board.getTile(i, board.SIZE - 1 - j) + board.getTile(i, board.SIZE - 1 - j - 1));
-                    } else if (!shouldMergeVertical(board, y_s, i, j) && shouldMergeVertical(board, y_s, i, j - 1)) {
-                        newBoard.setTile(i, board.SIZE - 1 - j, 0);
-                    }
+        BoardT newBoard = new BoardT(board.SIZE);
+        merge(board, direction, newBoard);
+        return newBoard;
+    }
+
+    /**
+     * @brief Write the board merged in the given direction into the given output
+     *        board.
+     * @param board     The board to be merged in the given direction.
+     * @param direction The direction that the board is being merged in.
+     * @param out       The board that the result is written to. It may be the same
+     *                  object as board.
+     * @see merge(BoardT, DirectionT)
+     */
+    public static void merge(BoardT board, DirectionT direction, BoardT out) {
+        for (int line = 0; line < board.SIZE; line++) {
+            int k = 0;
+            while (k < board.SIZE) {
+                int value = getLineTile(board, direction, line, k);
+                if (k + 1 < board.SIZE && value == getLineTile(board, direction, line, k + 1)) {
+                    setLineTile(out, direction, line, k, value + value);
+                    setLineTile(out, direction, line, k + 1, 0);
+                    k += 2;
+                } else {
+                    setLineTile(out, direction, line, k, value);
+                    k++;
                 }
             }
         }
-        return newBoard;
     }
 
     /**
@@ -96,42 +86,15 @@ public abstract class BoardManager {
      */
     public static int scoreFromMerge(BoardT board, DirectionT direction) {
         int score = 0;
-        if (direction == DirectionT.LEFT) {
-            int[] x_s = range(0, board.SIZE - 1);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeHorizontal(board, x_s, i, j)) {
-                        score += Math.abs(board.getTile(i, j)) + Math.abs(board.getTile(i + 1, j));
-                    }
-                }
-            }
-        } else if (direction == DirectionT.RIGHT) {
-            int[] x_s = range(board.SIZE - 1, 0);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeHorizontal(board, x_s, i, j)) {
-                        score += Math.abs(board.getTile(board.SIZE - 1 - i, j))
-                                + Math.abs(board.getTile(board.SIZE - 1 - i - 1, j));
-                    }
-                }
-            }
-        } else if (direction == DirectionT.UP) {
-            int[] y_s = range(0, board.SIZE - 1);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeVertical(board, y_s, i, j)) {
-                        score += Math.abs(board.getTile(i, j)) + Math.abs(board.getTile(i, j + 1));
-                    }
-                }
-            }
-        } else if (direction == DirectionT.DOWN) {
-            int[] y_s = range(board.SIZE - 1, 0);
-            for (int i = 0; i < board.SIZE; i++) {
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (shouldMergeVertical(board, y_s, i, j)) {
-                        score += Math.abs(board.getTile(i, board.SIZE - 1 - j))
-                                + Math.abs(board.getTile(i, board.SIZE - 1 - j - 1));
-                    }
+        for (int line = 0; line < board.SIZE; line++) {
+            int k = 0;
+            while (k < board.SIZE) {
+                int value = getLineTile(board, direction, line, k);
+                if (k + 1 < board.SIZE && value == getLineTile(board, direction, line, k + 1)) {
+                    score += Math.abs(value) + Math.abs(value);
+                    k += 2;
+                } else {
+                    k++;
                 }
             }
         }
@@ -147,51 +110,108 @@ public abstract class BoardManager {
      *         direction.
      */
     public static BoardT align(BoardT board, DirectionT direction) {
-        BoardT newBoard = new BoardT();
-        if (direction == DirectionT.LEFT) {
-            for (int j = 0; j < board.SIZE; j++) {
-                int[] nonEmptyRowIs = nonEmptyRowIndices(board, j);
-                for (int i = 0; i < board.SIZE; i++) {
-                    if (i < nonEmptyRowIs.length) {
-                        int value = board.getTile(nonEmptyRowIs[i], j);
-                        newBoard.setTile(i, j, value);
-                    }
+        BoardT newBoard = new BoardT(board.SIZE);
+        align(board, direction, newBoard);
+        return newBoard;
+    }
+
+    /**
+     * @brief Write the board aligned in the given direction into the given output
+     *        board.
+     * @param board     The board to be aligned in the given direction.
+     * @param direction The direction that the board is being aligned in.
+     * @param out       The board that the result is written to. It may be the same
+     *                  object as board.
+     * @see align(BoardT, DirectionT)
+     */
+    public static void align(BoardT board, DirectionT direction, BoardT out) {
+        for (int line = 0; line < board.SIZE; line++) {
+            int w = 0;
+            for (int k = 0; k < board.SIZE; k++) {
+                int value = getLineTile(board, direction, line, k);
+                if (value != 0) {
+                    setLineTile(out, direction, line, w++, value);
                 }
             }
-        } else if (direction == DirectionT.RIGHT) {
-            for (int j = 0; j < board.SIZE; j++) {
-                int[] nonEmptyRowIs = nonEmptyRowIndices(board, j);
-                for (int i = 0; i < board.SIZE; i++) {
-                    if (i >= board.SIZE - nonEmptyRowIs.length) {
-                        int i_ = i - (board.SIZE - nonEmptyRowIs.length);
-                        int value = board.getTile(nonEmptyRowIs[i_], j);
-                        newBoard.setTile(i, j, value);
-                    }
-                }
+            while (w < board.SIZE) {
+                setLineTile(out, direction, line, w++, 0);
             }
-        } else if (direction == DirectionT.UP) {
-            for (int i = 0; i < board.SIZE; i++) {
-                int[] nonEmptyRowJs = nonEmptyColumnIndices(board, i);
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (j < nonEmptyRowJs.length) {
-                        int value = board.getTile(i, nonEmptyRowJs[j]);
-                        newBoard.setTile(i, j, value);
-                    }
+        }
+    }
+
+    /**
+     * @brief Make a move on the given board in the given direction in a single
+     *        pass.
+     * @details The resulting board is the same as aligning, merging and aligning
+     *          the board in the given direction and the points are the same as
+     *          scoreFromMerge on the aligned board. Each row (or column) is read
+     *          once from "front" to "behind" and every non-empty tile is either
+     *          merged with the previous non-empty tile or written to the next
+     *          position.
+     * @param board     The board to be moved in the given direction.
+     * @param direction The direction that the board is being moved in.
+     * @return A MoveResultT object holding the new board, the points accumulated
+     *         from the move and whether the move changed the board.
+     * @see align
+     * @see merge
+     * @see scoreFromMerge
+     */
+    public static MoveResultT move(BoardT board, DirectionT direction) {
+        BoardT newBoard = new BoardT(board.SIZE);
+        int points = move(board, direction, newBoard);
+        if (points == UNCHANGED) {
+            return new MoveResultT(newBoard, 0, false);
+        }
+        return new MoveResultT(newBoard, points, true);
+    }
+
+    /**
+     * @brief Write the board resulting from a move in the given direction into the
+     *        given output board.
+     * @param board     The board to be moved in the given direction.
+     * @param direction The direction that the board is being moved in.
+     * @param out       The board that the result is written to. It may be the same
+     *                  object as board.
+     * @return The number of points accumulated from the move, or UNCHANGED if the
+     *         move does not change the board.
+     * @see move(BoardT, DirectionT)
+     */
+    public static int move(BoardT board, DirectionT direction, BoardT out) {
+        int points = 0;
+        boolean changed = false;
+        for (int line = 0; line < board.SIZE; line++) {
+            // positions are written at or before the position being read, so the
+            // original value at a position is still in board when it is written
+            int w = 0;
+            int pending = 0;
+            for (int k = 0; k < board.SIZE; k++) {
+                int value = getLineTile(board, direction, line, k);
+                if (value == 0) {
+                    continue;
                 }
-            }
-        } else if (direction == DirectionT.DOWN) {
-            for (int i = 0; i < board.SIZE; i++) {
-                int[] nonEmptyRowJs = nonEmptyColumnIndices(board, i);
-                for (int j = 0; j < board.SIZE; j++) {
-                    if (j >= board.SIZE - nonEmptyRowJs.length) {
-                        int j_ = j - (board.SIZE - nonEmptyRowJs.length);
-                        int value = board.getTile(i, nonEmptyRowJs[j_]);
-                        newBoard.setTile(i, j, value);
-                    }
+                if (pending == 0) {
+                    pending = value;
+                } else if (pending == value) {
+                    points += Math.abs(pending) + Math.abs(value);
+                    changed |= getLineTile(board, direction, line, w) != pending + value;
+                    setLineTile(out, direction, line, w++, pending + value);
+                    pending = 0;
+                } else {
+                    changed |= getLineTile(board, direction, line, w) != pending;
+                    setLineTile(out, direction, line, w++, pending);
+                    pending = value;
                 }
             }
+            if (pending != 0) {
+                changed |= getLineTile(board, direction, line, w) != pending;
+                setLineTile(out, direction, line, w++, pending);
+            }
+            while (w < board.SIZE) {
+                changed |= getLineTile(board, direction, line, w) != 0;
+                setLineTile(out, direction, line, w++, 0);
+            }
         }
-        return newBoard;
+        return changed ? points : UNCHANGED;
     }
 
     /**
@@ -205,104 +225,74 @@ public abstract class BoardManager {
      * @throws IllegalStateException If the given board is full.
      */
     public static BoardT addRandomTile(BoardT board) {
-        if (board.isFull()) {
-            throw new IllegalStateException("Cannot add random tile when board is full.");
-        }
-
-        Random rand = new Random();
-        int i = rand.nextInt(board.SIZE);
-        int j = rand.nextInt(board.SIZE);
-        while (!board.isTileEmpty(i, j)) {
-            i = rand.nextInt(board.SIZE);
-            j = rand.nextInt(board.SIZE);
-        }
-
-        BoardT copy = board.copy();
-        double chance = rand.nextDouble();
-        if (chance < 0.9) {
-            copy.setTile(i, j, 2);
-        } else {
-            copy.setTile(i, j, 4);
+        BoardT copy = new BoardT(board.SIZE);
+        synchronized (RANDOM) {
+            addRandomTile(board, RANDOM, copy);
         }
         return copy;
     }
 
-    private static boolean shouldMergeHorizontal(BoardT board, int[] x_s, int i, int j) {
-        if (i < 0 || i >= board.SIZE - 1) {
-            return false;
-        }
-
-        if (board.getTile(x_s[i], j) == board.getTile(x_s[i + 1], j)) {
-            if (i == 0) {
-                return true;
-            }
-            return board.getTile(x_s[i], j) != board.getTile(x_s[i - 1], j)
-                    || shouldMergeHorizontal(board, x_s, i - 2, j);
-        }
-        return false;
-    }
-
-    private static boolean shouldMergeVertical(BoardT board, int[] y_s, int i, int j) {
-        if (j < 0 || j >= board.SIZE - 1) {
-            return false;
+    /**
+     * @brief Write the given board with a random tile added to a random empty
+     *        position into the given output board.
+     * @details The position is chosen directly as the k-th empty tile (for a
+     *          random k) of a bit mask of the empty tiles, so only two random
+     *          numbers are drawn however full the board is. Given the same
+     *          board and a source of randomness in the same state, the same tile
+     *          is added.
+     * @param board The board to add a random tile to.
+     * @param rand  The source of randomness used to choose the position and value
+     *              of the tile.
+     * @param out   The board that the result is written to. It may be the same
+     *              object as board.
+     * @return The position SIZE * j + i of the tile that was added.
+     * @throws IllegalStateException If the given board is full.
+     * @see addRandomTile(BoardT)
+     */
+    public static int addRandomTile(BoardT board, RandomGenerator rand, BoardT out) {
+        long empty = board.emptyMask();
+        if (empty == 0) {
+            throw new IllegalStateException("Cannot add random tile when board is full.");
         }
 
-        if (board.getTile(i, y_s[j]) == board.getTile(i, y_s[j + 1])) {
-            if (j == 0) {
-                return true;
-            }
-            return board.getTile(i, y_s[j]) != board.getTile(i, y_s[j - 1])
-                    || shouldMergeVertical(board, y_s, i, j - 2);
+        for (int n = rand.nextInt(Long.bitCount(empty)); n > 0; n--) {
+            empty &= empty - 1;
         }
-        return false;
-    }
+        int position = Long.numberOfTrailingZeros(empty);
+        int i = position % board.SIZE;
+        int j = position / board.SIZE;
 
-    private static int[] nonEmptyRowIndices(BoardT board, int j) {
-        ArrayList<Integer> nonEmptyIs = new ArrayList<>();
-        for (int i = 0; i < board.SIZE; i++) {
-            if (!board.isTileEmpty(i, j)) {
-                nonEmptyIs.add(i);
-            }
-        }
-        int[] output = new int[nonEmptyIs.size()];
-        for (int index = 0; index < output.length; index++) {
-            output[index] = nonEmptyIs.get(index);
+        board.copyTo(out);
+        double chance = rand.nextDouble();
+        if (chance < 0.9) {
+            out.setTile(i, j, 2);
+        } else {
+            out.setTile(i, j, 4);
         }
-        return output;
+        return position;
     }
 
-    private static int[] nonEmptyColumnIndices(BoardT board, int i) {
-        ArrayList<Integer> nonEmptyJs = new ArrayList<>();
-        for (int j = 0; j < board.SIZE; j++) {
-            if (!board.isTileEmpty(i, j)) {
-                nonEmptyJs.add(j);
-            }
-        }
-        int[] output = new int[nonEmptyJs.size()];
-        for (int index = 0; index < output.length; index++) {
-            output[index] = nonEmptyJs.get(index);
+    private static int getLineTile(BoardT board, DirectionT direction, int line, int k) {
+        if (direction == DirectionT.LEFT) {
+            return board.getTile(k, line);
+        } else if (direction == DirectionT.RIGHT) {
+            return board.getTile(board.SIZE - 1 - k, line);
+        } else if (direction == DirectionT.UP) {
+            return board.getTile(line, k);
+        } else {
+            return board.getTile(line, board.SIZE - 1 - k);
         }
-        return output;
     }
 
-    private static int[] range(int start, int stop) {
-        int length = Math.abs(stop - start) + 1;
-        int[] seq = new int[length];
-
-        if (start < stop) {
-            int x = start;
-            for (int i = 0; i < length; i++) {
-                seq[i] = x;
-                x++;
-            }
-        } else if (stop < start) {
-            int x = start;
-            for (int i = 0; i < length; i++) {
-                seq[i] = x;
-                x--;
-            }
+    private static void setLineTile(BoardT board, DirectionT direction, int line, int k, int value) {
+        if (direction == DirectionT.LEFT) {
+            board.setTile(k, line, value);
+        } else if (direction == DirectionT.RIGHT) {
+            board.setTile(board.SIZE - 1 - k, line, value);
+        } else if (direction == DirectionT.UP) {
+            board.setTile(line, k, value);
+        } else {
+            board.setTile(line, board.SIZE - 1 - k, value);
         }
-        return seq;
     }
-
 }
@@ -1,12 +1,14 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 11, 2021
+ * Revised: October 18, 2026
  *
  * Description: Controller Module (Abstract Object)
  */
 
 package src.controller;
 
+import java.util.SplittableRandom;
+
 import src.model.BoardT;
 import src.model.DirectionT;
 import src.model.ScoreT;
@@ -14,19 +16,31 @@ import src.model.ScoreT;
 /**
  * @brief An abstract object that represents a controller used to make moves and
  *        check the state of the 2048 game.
- * @details The state of the board is stored in a BoardT object and the score is
- *          maintained using the ScoreT module. Either newGame or resumeGame is
- *          called before using the controller.
+ * @details The controller is a facade over a default GameSession object whose
+ *          score is maintained using the ScoreT module. Independent games (e.g.
+ *          on other threads) are played using their own GameSession objects.
+ *          Either newGame or resumeGame is called before using the controller.
  */
 public abstract class Controller {
-    private static BoardT board;
+    private static final GameSession session = new GameSession(ScoreT.getTracker(), new SplittableRandom().nextLong());
 
     /**
-     * @brief Reset the board, add two random tiles and reset the score.
+     * @brief Reset the board, add two random tiles and reset the score. The board
+     *        is the same size as the board of the previous game (4x4 at first).
      */
     public static void newGame() {
-        board = BoardManager.addRandomTile(BoardManager.addRandomTile(new BoardT()));
-        ScoreT.resetScore();
+        session.newGame();
+    }
+
+    /**
+     * @brief Reset the board to an empty board of the given size, add two random
+     *        tiles and reset the score.
+     * @param size The width/height of the board.
+     * @throws IllegalArgumentException If the size is not in the range of
+     *                                  [BoardT.MIN_SIZE, BoardT.MAX_SIZE].
+     */
+    public static void newGame(int size) {
+        session.newGame(size);
     }
 
     /**
@@ -43,20 +57,14 @@ public abstract class Controller {
      *                                  is less than the initial score.
      */
     public static void resumeGame(BoardT resumeBoard, int initialScore, int initialHighScore) {
-        if (initialScore < 0 || initialHighScore < 0) {
-            throw new IllegalArgumentException("The initial score and initial highscore must be greater than zero.");
-        }
-        if (initialHighScore < initialScore) {
-            throw new IllegalArgumentException("The initial highscore must not be less than the initial score.");
-        }
-        board = resumeBoard.copy();
-        ScoreT.initialize(initialScore, initialHighScore);
+        session.resumeGame(resumeBoard, initialScore, initialHighScore);
     }
 
     /**
      * @brief Make a move in the game in the given direction.
      * @details Assuming canMove is true, the board is aligned, merged and aligned
-     *          in the given direction and the score is updated accordingly (using
+     *          in the given direction (in place and in a single pass using
+     *          BoardManager.move) and the score is updated accordingly (using
      *          the ScoreT module).
      * @param direction The direction to be moved in.
      * @throws IllegalStateException If the game is over.
@@ -64,20 +72,7 @@ public abstract class Controller {
      * @see isGameOver
      */
     public static void move(DirectionT direction) {
-        if (isGameOver()) {
-            throw new IllegalStateException("Cannot move when game is over.");
-        }
-
-        if (canMove(direction)) {
-            BoardT alignedBoard = BoardManager.align(board, direction);
-
-            int points = BoardManager.scoreFromMerge(alignedBoard, direction);
-            ScoreT.updateScore(points);
-
-            board = BoardManager.merge(alignedBoard, direction);
-            board = BoardManager.align(board, direction);
-            board = BoardManager.addRandomTile(board);
-        }
+        session.move(direction);
     }
 
     /**
@@ -88,14 +83,17 @@ public abstract class Controller {
      * @see move
      */
     public static boolean canMove(DirectionT direction) {
-        BoardT alignedBoard = BoardManager.align(board, direction);
-        if (board.equals(alignedBoard)) {
-            BoardT mergedBoard = BoardManager.merge(alignedBoard, direction);
-            if (board.equals(mergedBoard)) {
-                return false;
-            }
-        }
-        return true;
+        return session.canMove(direction);
+    }
+
+    /**
+     * @brief Get the set of directions that a move changes the board in.
+     * @return A bit mask where bit d is set if a move in the direction with
+     *         ordinal d changes the board.
+     * @see canMove
+     */
+    public static int legalMoves() {
+        return session.legalMoves();
     }
 
     /**
@@ -103,8 +101,15 @@ public abstract class Controller {
      * @return True if one cannot move in all four directions.
      */
     public static boolean isGameOver() {
-        return !canMove(DirectionT.LEFT) && !canMove(DirectionT.RIGHT) && !canMove(DirectionT.UP)
-                && !canMove(DirectionT.DOWN);
+        return session.isGameOver();
+    }
+
+    /**
+     * @brief Get the value of the largest tile on the board.
+     * @return The value of the largest tile on the board (0 if the board is empty).
+     */
+    public static int maxTile() {
+        return session.maxTile();
     }
 
     /**
@@ -115,20 +120,7 @@ public abstract class Controller {
      * @return The value of the next highest tile to be achieved in the game.
      */
     public static int nextTileToGet() {
-        int maxTile = 0;
-        for (int i = 0; i < board.SIZE; i++) {
-            for (int j = 0; j < board.SIZE; j++) {
-                if (board.getTile(i, j) >= maxTile) {
-                    maxTile = board.getTile(i, j);
-                }
-            }
-        }
-
-        if (maxTile < 2048) {
-            return 2048;
-        } else {
-            return maxTile * 2;
-        }
+        return session.nextTileToGet();
     }
 
     /**
@@ -136,6 +128,26 @@ public abstract class Controller {
      * @return A BoardT object equal to the current board.
      */
     public static BoardT getBoard() {
-        return board.copy();
+        return session.getBoard();
+    }
+
+    /**
+     * @brief Record the games played through the controller to the given replay
+     *        log.
+     * @param recorder The ReplayRecorder object to record to, or null to stop
+     *                 recording.
+     * @see GameSession#setRecorder
+     */
+    public static void setRecorder(ReplayRecorder recorder) {
+        session.setRecorder(recorder);
+    }
+
+    /**
+     * @brief Get the default GameSession object that the controller is a facade
+     *        over.
+     * @return The default GameSession object.
+     */
+    public static GameSession getSession() {
+        return session;
     }
 }
@@ -0,0 +1,413 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: GameSession Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import src.model.BitBoard;
+import src.model.BitBoard3;
+import src.model.BoardT;
+import src.model.DirectionT;
+import src.model.ScoreTrackerT;
+
+/**
+ * @brief An ADT that represents a single game of 2048 with its own board,
+ *        score and source of randomness.
+ * @details Any number of GameSession objects can be played independently of
+ *          each other (e.g. one per thread). A GameSession object is not safe
+ *          to share between threads without external synchronization. The
+ *          Controller module is a facade over a default GameSession object.
+ *          Either newGame or resumeGame is called before using the session. The
+ *          legal moves and the largest tile are computed once after each change
+ *          of the board (when they are first needed) and cached until the next
+ *          change, so canMove, isGameOver, maxTile and nextTileToGet take
+ *          constant time when called repeatedly.
+ */
+public class GameSession {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+
+    private BoardT board;
+    private BoardT scratch;
+    // the board is stored in packed instead of board when packing is 4 (see the
+    // BitBoard module) or 3 (see the BitBoard3 module)
+    private int packing;
+    private long packed;
+    private final ScoreTrackerT score;
+    private final RandomGenerator rand;
+    private final long seed;
+    private ReplayRecorder recorder;
+    // the cached state is valid when stale is false
+    private boolean stale = true;
+    private int legalMoves;
+    private int maxTile;
+
+    /**
+     * @brief Initializes a GameSession object with its own score and a
+     *        SplittableRandom object with a random seed as its source of
+     *        randomness.
+     */
+    public GameSession() {
+        this(new ScoreTrackerT(), new SplittableRandom().nextLong());
+    }
+
+    /**
+     * @brief Initializes a GameSession object with its own score and a seeded
+     *        SplittableRandom object as its source of randomness, so that the
+     *        game is exactly reproducible from the seed.
+     * @param seed The seed of the source of randomness.
+     */
+    public GameSession(long seed) {
+        this(new ScoreTrackerT(), seed);
+    }
+
+    /**
+     * @brief Initializes a GameSession object for boards of the given size with
+     *        its own score and a seeded SplittableRandom object as its source of
+     *        randomness.
+     * @param size The width/height of the board of newGame.
+     * @param seed The seed of the source of randomness.
+     * @throws IllegalArgumentException If the size is not in the range of
+     *                                  [BoardT.MIN_SIZE, BoardT.MAX_SIZE].
+     */
+    public GameSession(int size, long seed) {
+        this(size, new ScoreTrackerT(), new SplittableRandom(seed), seed);
+    }
+
+    /**
+     * @brief Initializes a GameSession object with the given score and a seeded
+     *        SplittableRandom object as its source of randomness.
+     * @param score The ScoreTrackerT object that maintains the score of the game.
+     * @param seed  The seed of the source of randomness.
+     */
+    public GameSession(ScoreTrackerT score, long seed) {
+        this(BoardT.DEFAULT_SIZE, score, new SplittableRandom(seed), seed);
+    }
+
+    /**
+     * @brief Initializes a GameSession object with the given score and source of
+     *        randomness. Its seed is recorded as 0.
+     * @param score The ScoreTrackerT object that maintains the score of the game.
+     * @param rand  The source of randomness used to add random tiles.
+     */
+    public GameSession(ScoreTrackerT score, RandomGenerator rand) {
+        this(BoardT.DEFAULT_SIZE, score, rand, 0);
+    }
+
+    private GameSession(int size, ScoreTrackerT score, RandomGenerator rand, long seed) {
+        this.board = new BoardT(size);
+        this.scratch = new BoardT(size);
+        this.score = score;
+        this.rand = rand;
+        this.seed = seed;
+    }
+
+    /**
+     * @brief Record the games of the session to the given replay log.
+     * @details Recording starts from the next call to newGame or resumeGame and
+     *          the game being recorded to the previous replay log, if there is
+     *          one, is ended. A game is only recorded while its board can be
+     *          packed (see the BitBoard module), so games on boards other than
+     *          4x4 are not recorded.
+     * @param recorder The ReplayRecorder object to record to, or null to stop
+     *                 recording.
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        if (this.recorder != null) {
+            this.recorder.endGame();
+        }
+        this.recorder = recorder;
+    }
+
+    /**
+     * @brief Reset the board, add two random tiles and reset the score. The board
+     *        is the same size as the board of the previous game.
+     */
+    public void newGame() {
+        newGame(board.SIZE);
+    }
+
+    /**
+     * @brief Reset the board to an empty board of the given size, add two random
+     *        tiles and reset the score.
+     * @param size The width/height of the board.
+     * @throws IllegalArgumentException If the size is not in the range of
+     *                                  [BoardT.MIN_SIZE, BoardT.MAX_SIZE].
+     */
+    public void newGame(int size) {
+        board = new BoardT(size);
+        BoardManager.addRandomTile(board, rand, board);
+        BoardManager.addRandomTile(board, rand, board);
+        score.resetScore();
+        choosePacking();
+        beginRecording();
+    }
+
+    /**
+     * @brief Resume a previous/existing game given a board, score and high score.
+     * @details This is to be used to restore the state of the game and continue to
+     *          play. The game is played on a board of the same size as the given
+     *          board.
+     * @param resumeBoard      The board to resume/continue the game from.
+     * @param initialScore     The current score to resume/continue the game from.
+     * @param initialHighScore The high score to resume/continue the game from.
+     * @throws IllegalArgumentException If the initial score or initial high score
+     *                                  is less than 0 or if the initial high score
+     *                                  is less than the initial score.
+     */
+    public void resumeGame(BoardT resumeBoard, int initialScore, int initialHighScore) {
+        if (initialScore < 0 || initialHighScore < 0) {
+            throw new IllegalArgumentException("The initial score and initial highscore must be greater than zero.");
+        }
+        if (initialHighScore < initialScore) {
+            throw new IllegalArgumentException("The initial highscore must not be less than the initial score.");
+        }
+        board = resumeBoard.copy();
+        score.initialize(initialScore, initialHighScore);
+        choosePacking();
+        beginRecording();
+    }
+
+    /**
+     * @brief Make a move in the game in the given direction.
+     * @details Assuming canMove is true, the board is aligned, merged and aligned
+     *          in the given direction, the score is updated accordingly and a
+     *          random tile is added. 3x3 and 4x4 boards whose tiles are powers of
+     *          two below 2^15 are moved in their packed representation using the
+     *          lookup tables of BitBoard3Manager and BitBoardManager. Other boards
+     *          are moved in place and in a single pass using BoardManager.move.
+     * @param direction The direction to be moved in.
+     * @throws IllegalStateException If the game is over.
+     * @see canMove
+     * @see isGameOver
+     */
+    public void move(DirectionT direction) {
+        int points = packing == 0 ? BoardManager.move(board, direction, board) : movePacked(direction);
+        if (points == BoardManager.UNCHANGED) {
+            if (isGameOver()) {
+                throw new IllegalStateException("Cannot move when game is over.");
+            }
+            return;
+        }
+        score.updateScore(points);
+        stale = true;
+        int position = packing == 0 ? BoardManager.addRandomTile(board, rand, board) : addRandomTilePacked();
+        // the lookup tables cannot merge two tiles of the largest exponent, which
+        // can only exist after a merge scoring at least 2^15 points
+        if (packing != 0 && points >= 1 << BitBoard.MAX_EXPONENT
+                && BitBoard.maxExponent(packed) == BitBoard.MAX_EXPONENT) {
+            board = getBoard();
+            packing = 0;
+        }
+        if (recorder != null && recorder.isRecording()) {
+            // only a merge scoring at least 2^16 points can create an
+            // unpackable tile
+            if (packing == 0 && points >= 1 << 16 && !BitBoard.isPackable(board)) {
+                recorder.endGame();
+            } else {
+                recorder.recordTurn(direction, position, tileAt(position));
+            }
+        }
+    }
+
+    /**
+     * @brief Check if a move in the given direction changes the board.
+     * @param direction The direction to be moved in.
+     * @return True if the board resulting from making a move in the given direction
+     *         is not equal to the board prior to the move.
+     * @see move
+     */
+    public boolean canMove(DirectionT direction) {
+        return (legalMoves() & 1 << direction.ordinal()) != 0;
+    }
+
+    /**
+     * @brief Get the set of directions that a move changes the board in.
+     * @return A bit mask where bit d is set if a move in the direction with
+     *         ordinal d changes the board.
+     * @see canMove
+     */
+    public int legalMoves() {
+        refresh();
+        return legalMoves;
+    }
+
+    /**
+     * @brief Check if the game is over.
+     * @return True if one cannot move in all four directions.
+     */
+    public boolean isGameOver() {
+        return legalMoves() == 0;
+    }
+
+    /**
+     * @brief Get the value of the largest tile on the board.
+     * @return The value of the largest tile on the board (0 if the board is empty).
+     */
+    public int maxTile() {
+        refresh();
+        return maxTile;
+    }
+
+    /**
+     * @brief Get the next highest tile to be achieved in the game.
+     * @details At the start of a new game, the next tile to be achieved is 2048.
+     *          After the 2048 tile is achieved then the next tile is 4096, then
+     *          8192, etc.
+     * @return The value of the next highest tile to be achieved in the game.
+     */
+    public int nextTileToGet() {
+        int maxTile = maxTile();
+        if (maxTile < 2048) {
+            return 2048;
+        } else {
+            return maxTile * 2;
+        }
+    }
+
+    /**
+     * @brief Get the seed of the session's source of randomness.
+     * @return The seed, or 0 if the session was given its source of randomness.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @brief Return a copy of the current board.
+     * @return A BoardT object equal to the current board.
+     */
+    public BoardT getBoard() {
+        if (packing == BitBoard.SIZE) {
+            return BitBoard.unpack(packed);
+        } else if (packing == BitBoard3.SIZE) {
+            return BitBoard3.unpack(packed);
+        }
+        return board.copy();
+    }
+
+    /**
+     * @brief Get the value of the current score of the game.
+     * @return The current score of the game.
+     */
+    public int getScore() {
+        return score.getScore();
+    }
+
+    /**
+     * @brief Get the value of the current high score of the game.
+     * @return The current high score of the game.
+     */
+    public int getHighScore() {
+        return score.getHighScore();
+    }
+
+    private void refresh() {
+        if (!stale) {
+            return;
+        }
+        legalMoves = 0;
+        if (packing == BitBoard.SIZE) {
+            for (DirectionT direction : DIRECTIONS) {
+                if (BitBoardManager.canMove(packed, direction)) {
+                    legalMoves |= 1 << direction.ordinal();
+                }
+            }
+            maxTile = BitBoard.toValue(BitBoard.maxExponent(packed));
+        } else if (packing == BitBoard3.SIZE) {
+            for (DirectionT direction : DIRECTIONS) {
+                if (BitBoard3Manager.canMove(packed, direction)) {
+                    legalMoves |= 1 << direction.ordinal();
+                }
+            }
+            maxTile = BitBoard.toValue(BitBoard3.maxExponent(packed));
+        } else {
+            refreshBoard();
+        }
+        stale = false;
+    }
+
+    private void refreshBoard() {
+        for (DirectionT direction : DIRECTIONS) {
+            if (BoardManager.move(board, direction, scratch) != BoardManager.UNCHANGED) {
+                legalMoves |= 1 << direction.ordinal();
+            }
+        }
+        maxTile = 0;
+        for (int i = 0; i < board.SIZE; i++) {
+            for (int j = 0; j < board.SIZE; j++) {
+                maxTile = Math.max(maxTile, board.getTile(i, j));
+            }
+        }
+    }
+
+    private void choosePacking() {
+        if (scratch.SIZE != board.SIZE) {
+            scratch = new BoardT(board.SIZE);
+        }
+        packing = 0;
+        if (BitBoard.isPackable(board)) {
+            packed = BitBoard.pack(board);
+            packing = BitBoard.SIZE;
+        } else if (BitBoard3.isPackable(board)) {
+            packed = BitBoard3.pack(board);
+            packing = BitBoard3.SIZE;
+        }
+        if (packing != 0 && BitBoard.maxExponent(packed) == BitBoard.MAX_EXPONENT) {
+            packing = 0;
+        }
+        stale = true;
+    }
+
+    private int movePacked(DirectionT direction) {
+        long moved;
+        int points;
+        if (packing == BitBoard.SIZE) {
+            moved = BitBoardManager.move(packed, direction);
+            points = BitBoardManager.scoreFromMove(packed, direction);
+        } else {
+            moved = BitBoard3Manager.move(packed, direction);
+            points = BitBoard3Manager.scoreFromMove(packed, direction);
+        }
+        if (moved == packed) {
+            return BoardManager.UNCHANGED;
+        }
+        packed = moved;
+        return points;
+    }
+
+    private int addRandomTilePacked() {
+        long spawned = packing == BitBoard.SIZE
+                ? BitBoardManager.addRandomTile(packed, rand)
+                : BitBoard3Manager.addRandomTile(packed, rand);
+        int position = Long.numberOfTrailingZeros(spawned ^ packed) >>> 2;
+        packed = spawned;
+        return position;
+    }
+
+    // the position of the tile at i, j is SIZE * j + i in every representation
+    private int tileAt(int position) {
+        if (packing != 0) {
+            return BitBoard.toValue((int) (packed >>> (position << 2)) & 0xF);
+        }
+        return board.getTile(position % board.SIZE, position / board.SIZE);
+    }
+
+    private void beginRecording() {
+        if (recorder == null) {
+            return;
+        }
+        if (packing == BitBoard.SIZE) {
+            recorder.beginGame(seed, packed, score.getScore());
+        } else if (BitBoard.isPackable(board)) {
+            recorder.beginGame(seed, BitBoard.pack(board), score.getScore());
+        } else {
+            recorder.endGame();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: MovePolicy Module (Interface Module)
+ */
+
+package src.controller;
+
+import java.util.random.RandomGenerator;
+
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief An interface for choosing the next move of a game of 2048 without the
+ *        graphical user interface (e.g. a random player or an AI).
+ * @details A policy may keep state between moves (e.g. a transposition table),
+ *          so the SimulationRunner module creates one policy per game. Any
+ *          randomness used by a policy should come from the source of
+ *          randomness passed in so that games are reproducible.
+ */
+public interface MovePolicy {
+    /**
+     * @brief Choose the direction of the next move for the given board.
+     * @details The game is not over when this is called, so at least one
+     *          direction changes the board.
+     * @param board The current board of the game. The policy may modify it.
+     * @param rand  The source of randomness of the game for the policy to use.
+     * @return The direction to be moved in.
+     */
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand);
+}
@@ -0,0 +1,39 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: RandomPolicy Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import java.util.random.RandomGenerator;
+
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief A MovePolicy that chooses uniformly at random among the directions
+ *        that change the board.
+ * @details A RandomPolicy object is not safe to share between threads.
+ */
+public class RandomPolicy implements MovePolicy {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+
+    private BoardT scratch = new BoardT();
+    private final DirectionT[] legal = new DirectionT[DIRECTIONS.length];
+
+    @Override
+    public DirectionT chooseMove(BoardT board, RandomGenerator rand) {
+        if (scratch.SIZE != board.SIZE) {
+            scratch = new BoardT(board.SIZE);
+        }
+        int count = 0;
+        for (DirectionT direction : DIRECTIONS) {
+            if (BoardManager.move(board, direction, scratch) != BoardManager.UNCHANGED) {
+                legal[count++] = direction;
+            }
+        }
+        return legal[rand.nextInt(count)];
+    }
+}
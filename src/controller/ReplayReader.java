@@ -0,0 +1,178 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ReplayReader Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that reads the games of a replay log written by the
+ *        ReplayRecorder module one at a time and replays them.
+ * @details The file is memory-mapped and each game is replayed on packed boards
+ *          using BitBoardManager as its turns are read, so reading a game does
+ *          not allocate. A game that was not ended (e.g. the process stopped
+ *          while recording it) ends at the start of the next game or the end of
+ *          the file. Files of up to 2 GiB are supported.
+ */
+public class ReplayReader {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+
+    private final MappedByteBuffer buffer;
+    private int position = 4;
+    private int turnsStart;
+    private int turns;
+    private long seed;
+    private long initialBoard;
+    private int initialScore;
+    private long finalBoard;
+    private int finalScore;
+
+    /**
+     * @brief Initializes a ReplayReader object that reads the given file from the
+     *        first game.
+     * @param path The file to read.
+     * @throws IOException              If the file cannot be read or is larger
+     *                                  than 2 GiB.
+     * @throws IllegalArgumentException If the file is not a replay log.
+     */
+    public ReplayReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("The replay log is larger than 2 GiB.");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < 4 || buffer.getInt(0) != ReplayRecorder.MAGIC) {
+            throw new IllegalArgumentException("The file does not contain a replay log.");
+        }
+    }
+
+    /**
+     * @brief Read and replay the next game of the log.
+     * @return True if there was a next game, or false if the end of the log was
+     *         reached.
+     * @throws IllegalArgumentException If a turn of the game does not change the
+     *                                  board or adds a tile to a position that is
+     *                                  not empty.
+     */
+    public boolean nextGame() {
+        int limit = buffer.limit();
+        while (position < limit && buffer.get(position) != ReplayRecorder.GAME) {
+            position++;
+        }
+        if (position + ReplayRecorder.HEADER_BYTES > limit) {
+            position = limit;
+            return false;
+        }
+        seed = buffer.getLong(position + 1);
+        initialBoard = buffer.getLong(position + 9);
+        initialScore = buffer.getInt(position + 17);
+        turnsStart = position + ReplayRecorder.HEADER_BYTES;
+
+        long board = initialBoard;
+        int score = initialScore;
+        int k = turnsStart;
+        for (byte turn; k < limit && (turn = buffer.get(k)) >= 0; k++) {
+            DirectionT direction = DIRECTIONS[turn & 3];
+            long moved = BitBoardManager.move(board, direction);
+            int shift = (turn >>> 2 & 0xF) << 2;
+            if (moved == board || (moved >>> shift & 0xF) != 0) {
+                throw new IllegalArgumentException("The replay log is corrupt at byte " + k + ".");
+            }
+            score += BitBoardManager.scoreFromMove(board, direction);
+            board = moved | (long) ((turn >>> 6) + 1) << shift;
+        }
+        turns = k - turnsStart;
+        finalBoard = board;
+        finalScore = score;
+        position = k;
+        return true;
+    }
+
+    /**
+     * @brief Get the seed of the current game.
+     * @return The seed of the game's source of randomness.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @brief Get the board that the current game starts from.
+     * @return The initial packed board.
+     */
+    public long getInitialBoard() {
+        return initialBoard;
+    }
+
+    /**
+     * @brief Get the score that the current game starts from.
+     * @return The initial score.
+     */
+    public int getInitialScore() {
+        return initialScore;
+    }
+
+    /**
+     * @brief Get the number of turns of the current game.
+     * @return The number of turns.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @brief Get the direction moved in on the given turn of the current game.
+     * @param turn The index of the turn in the range of [0, getTurns()).
+     * @return The direction moved in.
+     */
+    public DirectionT getDirection(int turn) {
+        return DIRECTIONS[buffer.get(turnsStart + turn) & 3];
+    }
+
+    /**
+     * @brief Get the position of the random tile added on the given turn of the
+     *        current game.
+     * @param turn The index of the turn in the range of [0, getTurns()).
+     * @return The position 4 * j + i of the random tile.
+     */
+    public int getSpawnPosition(int turn) {
+        return buffer.get(turnsStart + turn) >>> 2 & 0xF;
+    }
+
+    /**
+     * @brief Get the value of the random tile added on the given turn of the
+     *        current game.
+     * @param turn The index of the turn in the range of [0, getTurns()).
+     * @return The value of the random tile (2 or 4).
+     */
+    public int getSpawnValue(int turn) {
+        return (buffer.get(turnsStart + turn) >>> 6) == 0 ? 2 : 4;
+    }
+
+    /**
+     * @brief Get the board at the end of the current game.
+     * @return The packed board after every turn of the game.
+     */
+    public long getFinalBoard() {
+        return finalBoard;
+    }
+
+    /**
+     * @brief Get the score at the end of the current game.
+     * @return The score after every turn of the game.
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+}
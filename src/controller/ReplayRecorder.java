@@ -0,0 +1,165 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ReplayRecorder Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import src.model.BitBoard;
+import src.model.DirectionT;
+
+/**
+ * @brief An ADT that appends games of 2048 to a binary replay log, which is
+ *        read using the ReplayReader module.
+ * @details A log starts with a 4-byte magic number followed by any number of
+ *          games. A game is the byte 0xFE, the seed (8 bytes), the initial
+ *          packed board (8 bytes, see the BitBoard module) and the initial score
+ *          (4 bytes), followed by one byte per turn and the byte 0xFF. Bits 0-1
+ *          of a turn are the ordinal of the direction moved in, bits 2-5 are the
+ *          position 4 * j + i of the random tile added after the move and bit 6
+ *          is set if that tile is a 4 (instead of a 2), so a turn is never a
+ *          marker byte. Writes are buffered and the buffer is written to the
+ *          file at the end of every game. A ReplayRecorder object is not safe to
+ *          share between threads or sessions.
+ */
+public class ReplayRecorder implements Closeable {
+    static final int MAGIC = 0x32303452;
+    static final byte GAME = (byte) 0xFE;
+    static final byte END = (byte) 0xFF;
+    static final int HEADER_BYTES = 1 + 8 + 8 + 4;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    private boolean recording;
+
+    /**
+     * @brief Initializes a ReplayRecorder object that appends to the given file.
+     * @param path The file to append to. It is created if it does not exist.
+     * @throws IOException              If the file cannot be opened.
+     * @throws IllegalArgumentException If the file is not empty and is not a
+     *                                  replay log.
+     */
+    public ReplayRecorder(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size == 0) {
+            buffer.putInt(MAGIC);
+            return;
+        }
+        ByteBuffer magic = ByteBuffer.allocate(4);
+        channel.read(magic, 0);
+        if (magic.position() < 4 || magic.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IllegalArgumentException("The file does not contain a replay log.");
+        }
+        channel.position(size);
+    }
+
+    /**
+     * @brief Start recording a new game, ending the game being recorded if there
+     *        is one.
+     * @param seed  The seed of the game's source of randomness.
+     * @param board The packed board that the game starts from.
+     * @param score The score that the game starts from.
+     * @throws UncheckedIOException If the log cannot be written.
+     */
+    public void beginGame(long seed, long board, int score) {
+        if (recording) {
+            endGame();
+        }
+        reserve(HEADER_BYTES);
+        buffer.put(GAME).putLong(seed).putLong(board).putInt(score);
+        recording = true;
+    }
+
+    /**
+     * @brief Record a turn of the game being recorded.
+     * @param direction The direction moved in.
+     * @param position  The position 4 * j + i of the random tile added after the
+     *                  move.
+     * @param value     The value of the random tile (2 or 4).
+     * @throws IllegalStateException    If no game is being recorded.
+     * @throws IllegalArgumentException If the position is not in the range of [0,
+     *                                  16) or the value is not 2 or 4.
+     * @throws UncheckedIOException     If the log cannot be written.
+     */
+    public void recordTurn(DirectionT direction, int position, int value) {
+        if (!recording) {
+            throw new IllegalStateException("Cannot record a turn when no game is being recorded.");
+        }
+        if (position < 0 || position >= BitBoard.SIZE * BitBoard.SIZE || (value != 2 && value != 4)) {
+            throw new IllegalArgumentException("The random tile must be a 2 or 4 at a position in [0..16).");
+        }
+        reserve(1);
+        buffer.put((byte) (direction.ordinal() | position << 2 | (value == 4 ? 1 << 6 : 0)));
+    }
+
+    /**
+     * @brief End the game being recorded, if there is one, and write it to the
+     *        file.
+     * @throws UncheckedIOException If the log cannot be written.
+     */
+    public void endGame() {
+        if (recording) {
+            reserve(1);
+            buffer.put(END);
+            recording = false;
+        }
+        flush();
+    }
+
+    /**
+     * @brief Check if a game is being recorded.
+     * @return True if beginGame has been called since the last endGame.
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * @brief End the game being recorded, if there is one, and close the file.
+     * @throws IOException If the log cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            endGame();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void reserve(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
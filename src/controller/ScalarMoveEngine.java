@@ -0,0 +1,108 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ScalarMoveEngine Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import src.model.BoardBatchT;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+/**
+ * @brief A BatchMoveEngine that moves the boards of a batch one at a time.
+ * @details Each row (or column) of a board is moved in a single pass as in
+ *          BoardManager.move, reading and writing the lanes of the batch
+ *          directly. It is also used by the VectorMoveEngine module for the
+ *          boards that do not fill a vector.
+ */
+public class ScalarMoveEngine implements BatchMoveEngine {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    // LINES[size][d][line][k] is the position of the k-th tile from the "front"
+    // of a line of a board of the given size moved in the direction with ordinal d
+    private static final int[][][][] LINES = new int[BoardT.MAX_SIZE + 1][][][];
+
+    static {
+        for (int size = BoardT.MIN_SIZE; size <= BoardT.MAX_SIZE; size++) {
+            LINES[size] = new int[DIRECTIONS.length][size][size];
+            for (int line = 0; line < size; line++) {
+                for (int k = 0; k < size; k++) {
+                    LINES[size][DirectionT.LEFT.ordinal()][line][k] = line * size + k;
+                    LINES[size][DirectionT.RIGHT.ordinal()][line][k] = line * size + size - 1 - k;
+                    LINES[size][DirectionT.UP.ordinal()][line][k] = k * size + line;
+                    LINES[size][DirectionT.DOWN.ordinal()][line][k] = (size - 1 - k) * size + line;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void move(BoardBatchT boards, DirectionT direction, BoardBatchT out, int[] points, boolean[] changed) {
+        checkArguments(boards, out, points, changed);
+        out.setCount(boards.getCount());
+        move(boards, direction, out, points, changed, 0, boards.getCount());
+    }
+
+    // moves boards [from, to) of the batch
+    static void move(BoardBatchT boards, DirectionT direction, BoardBatchT out, int[] points, boolean[] changed,
+            int from, int to) {
+        for (int k = from; k < to; k++) {
+            points[k] = 0;
+            changed[k] = false;
+        }
+        for (int[] line : lines(boards.SIZE, direction)) {
+            for (int k = from; k < to; k++) {
+                // positions are written at or before the position being read, so
+                // the original value at a position is still in boards when it is
+                // written
+                int w = 0;
+                int pending = 0;
+                for (int position : line) {
+                    int value = boards.getLane(position)[k];
+                    if (value == 0) {
+                        continue;
+                    }
+                    if (pending == 0) {
+                        pending = value;
+                    } else if (pending == value) {
+                        points[k] += Math.abs(pending) + Math.abs(value);
+                        changed[k] |= write(boards, out, line[w++], k, pending + value);
+                        pending = 0;
+                    } else {
+                        changed[k] |= write(boards, out, line[w++], k, pending);
+                        pending = value;
+                    }
+                }
+                if (pending != 0) {
+                    changed[k] |= write(boards, out, line[w++], k, pending);
+                }
+                while (w < line.length) {
+                    changed[k] |= write(boards, out, line[w++], k, 0);
+                }
+            }
+        }
+    }
+
+    static int[][] lines(int size, DirectionT direction) {
+        return LINES[size][direction.ordinal()];
+    }
+
+    static void checkArguments(BoardBatchT boards, BoardBatchT out, int[] points, boolean[] changed) {
+        int count = boards.getCount();
+        if (out.SIZE != boards.SIZE) {
+            throw new IllegalArgumentException("The output batch must be the same size as the batch.");
+        }
+        if (out.getCapacity() < count || points.length < count || changed.length < count) {
+            throw new IllegalArgumentException("The outputs must be able to hold every board of the batch.");
+        }
+    }
+
+    // returns true if the value differs from the original value at the position
+    private static boolean write(BoardBatchT boards, BoardBatchT out, int position, int k, int value) {
+        boolean differs = boards.getLane(position)[k] != value;
+        out.getLane(position)[k] = value;
+        return differs;
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: SimulationRunner Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import src.model.BoardT;
+import src.model.DirectionT;
+import src.model.SimulationStatsT;
+
+/**
+ * @brief An ADT that plays batches of complete games of 2048 without the
+ *        graphical user interface, in parallel on a fork-join pool.
+ * @details Each game is played using its own GameSession object and MovePolicy
+ *          object. The seeds of game k (one for the random tiles and one for
+ *          the policy) are the k-th pair drawn from a SplittableRandom object
+ *          seeded with the master seed, so the results of a batch depend only
+ *          on the master seed and not on the number of threads.
+ */
+public class SimulationRunner {
+    private static final DirectionT[] DIRECTIONS = DirectionT.values();
+    private static final int GAMES_PER_TASK = 8;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    /**
+     * @brief Initializes a SimulationRunner object that uses the common
+     *        fork-join pool.
+     */
+    public SimulationRunner() {
+        this.pool = ForkJoinPool.commonPool();
+        this.ownsPool = false;
+    }
+
+    /**
+     * @brief Initializes a SimulationRunner object with its own fork-join pool.
+     * @param parallelism The number of threads to play games on.
+     * @throws IllegalArgumentException If the parallelism is less than 1.
+     */
+    public SimulationRunner(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.ownsPool = true;
+    }
+
+    /**
+     * @brief Play the given number of complete games on 4x4 boards and collect
+     *        their statistics.
+     * @param games      The number of games to play.
+     * @param masterSeed The seed that every game's seeds are derived from.
+     * @param policies   Creates the MovePolicy object used to play each game.
+     * @return The statistics of the games.
+     * @throws IllegalArgumentException If the number of games is less than 0.
+     * @see run(int, int, long, Supplier)
+     */
+    public SimulationStatsT run(int games, long masterSeed, Supplier<? extends MovePolicy> policies) {
+        return run(games, BoardT.DEFAULT_SIZE, masterSeed, policies);
+    }
+
+    /**
+     * @brief Play the given number of complete games on boards of the given size
+     *        and collect their statistics.
+     * @details Every game starts from a new game and is played until it is over.
+     *          If a policy chooses a direction that does not change the board, the
+     *          first direction (in the order of DirectionT) that does is played
+     *          instead.
+     * @param games      The number of games to play.
+     * @param size       The width/height of the boards.
+     * @param masterSeed The seed that every game's seeds are derived from.
+     * @param policies   Creates the MovePolicy object used to play each game.
+     * @return The statistics of the games.
+     * @throws IllegalArgumentException If the number of games is less than 0 or
+     *                                  the size is not in the range of
+     *                                  [BoardT.MIN_SIZE, BoardT.MAX_SIZE].
+     */
+    public SimulationStatsT run(int games, int size, long masterSeed, Supplier<? extends MovePolicy> policies) {
+        if (games < 0) {
+            throw new IllegalArgumentException("The number of games must not be less than zero.");
+        }
+        if (size < BoardT.MIN_SIZE || size > BoardT.MAX_SIZE) {
+            throw new IllegalArgumentException("The size of the board must be in the range of [3..8].");
+        }
+        long[] seeds = new long[2 * games];
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        for (int k = 0; k < seeds.length; k++) {
+            seeds[k] = master.nextLong();
+        }
+
+        int[] scores = new int[games];
+        int[] maxTiles = new int[games];
+        int[] moves = new int[games];
+        long start = System.nanoTime();
+        pool.invoke(new PlayGames(0, games, size, seeds, policies, scores, maxTiles, moves));
+        long elapsed = System.nanoTime() - start;
+        return new SimulationStatsT(scores, maxTiles, moves, elapsed);
+    }
+
+    /**
+     * @brief Shut down the fork-join pool of the runner if it owns one.
+     */
+    public void shutdown() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @brief Play a single complete game from a new game.
+     * @param session The session to play the game in.
+     * @param policy  The policy used to choose each move.
+     * @param rand    The source of randomness passed to the policy.
+     * @return The number of moves made.
+     */
+    public static int playGame(GameSession session, MovePolicy policy, RandomGenerator rand) {
+        session.newGame();
+        int moves = 0;
+        while (!session.isGameOver()) {
+            DirectionT direction = policy.chooseMove(session.getBoard(), rand);
+            if (!session.canMove(direction)) {
+                direction = firstLegalMove(session);
+            }
+            session.move(direction);
+            moves++;
+        }
+        return moves;
+    }
+
+    private static DirectionT firstLegalMove(GameSession session) {
+        for (DirectionT direction : DIRECTIONS) {
+            if (session.canMove(direction)) {
+                return direction;
+            }
+        }
+        throw new IllegalStateException("Cannot move when game is over.");
+    }
+
+    // plays a range of the games (the task is never serialized)
+    @SuppressWarnings("serial")
+    private static class PlayGames extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int size;
+        private final long[] seeds;
+        private final Supplier<? extends MovePolicy> policies;
+        private final int[] scores;
+        private final int[] maxTiles;
+        private final int[] moves;
+
+        PlayGames(int from, int to, int size, long[] seeds, Supplier<? extends MovePolicy> policies,
+                int[] scores, int[] maxTiles, int[] moves) {
+            this.from = from;
+            this.to = to;
+            this.size = size;
+            this.seeds = seeds;
+            this.policies = policies;
+            this.scores = scores;
+            this.maxTiles = maxTiles;
+            this.moves = moves;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GAMES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new PlayGames(from, mid, size, seeds, policies, scores, maxTiles, moves),
+                        new PlayGames(mid, to, size, seeds, policies, scores, maxTiles, moves));
+                return;
+            }
+            for (int k = from; k < to; k++) {
+                GameSession session = new GameSession(size, seeds[2 * k]);
+                moves[k] = playGame(session, policies.get(), new SplittableRandom(seeds[2 * k + 1]));
+                scores[k] = session.getScore();
+                maxTiles[k] = session.maxTile();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: VectorMoveEngine Module (Abstract Data Type)
+ */
+
+package src.controller;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import src.model.BoardBatchT;
+import src.model.DirectionT;
+
+/**
+ * @brief A BatchMoveEngine that moves as many boards of a batch at once as fit
+ *        in a vector register, using the Java Vector API.
+ * @details Each vector lane holds one board, so the k-th tile of a row (or
+ *          column) of every board in a vector is loaded from the same lane of
+ *          the batch. A row is aligned with a network of compare-and-shift
+ *          steps, merged with one masked step per adjacent pair (in the same
+ *          order as BoardManager.merge) and aligned again, so no step depends
+ *          on the tiles of a particular board. The boards that do not fill a
+ *          vector are moved by ScalarMoveEngine. Requires the
+ *          jdk.incubator.vector module (e.g. --add-modules
+ *          jdk.incubator.vector); use BatchMoveEngine.create to fall back to
+ *          ScalarMoveEngine when it is not available.
+ */
+public class VectorMoveEngine implements BatchMoveEngine {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    // work[k * LANES + lane] is the k-th tile of the row being moved
+    private int[] work = new int[0];
+    private int[] original = new int[0];
+
+    @Override
+    public void move(BoardBatchT boards, DirectionT direction, BoardBatchT out, int[] points, boolean[] changed) {
+        ScalarMoveEngine.checkArguments(boards, out, points, changed);
+        int count = boards.getCount();
+        int size = boards.SIZE;
+        out.setCount(count);
+        if (work.length < size * LANES) {
+            work = new int[size * LANES];
+            original = new int[size * LANES];
+        }
+
+        int[][] lines = ScalarMoveEngine.lines(size, direction);
+        int bound = SPECIES.loopBound(count);
+        for (int k = 0; k < bound; k += LANES) {
+            IntVector score = IntVector.zero(SPECIES);
+            VectorMask<Integer> differs = SPECIES.maskAll(false);
+            for (int[] line : lines) {
+                for (int t = 0; t < size; t++) {
+                    IntVector.fromArray(SPECIES, boards.getLane(line[t]), k).intoArray(original, t * LANES);
+                }
+                System.arraycopy(original, 0, work, 0, size * LANES);
+                align(size);
+                score = merge(size, score);
+                align(size);
+                for (int t = 0; t < size; t++) {
+                    IntVector result = IntVector.fromArray(SPECIES, work, t * LANES);
+                    differs = differs.or(result.compare(VectorOperators.NE,
+                            IntVector.fromArray(SPECIES, original, t * LANES)));
+                    result.intoArray(out.getLane(line[t]), k);
+                }
+            }
+            score.intoArray(points, k);
+            differs.intoArray(changed, k);
+        }
+        ScalarMoveEngine.move(boards, direction, out, points, changed, bound, count);
+    }
+
+    // moves the non-empty tiles of the row to the front in size - 1 passes, each
+    // moving every tile at most one position towards the front
+    private void align(int size) {
+        for (int pass = 1; pass < size; pass++) {
+            for (int t = 0; t + 1 < size; t++) {
+                IntVector a = IntVector.fromArray(SPECIES, work, t * LANES);
+                IntVector b = IntVector.fromArray(SPECIES, work, (t + 1) * LANES);
+                VectorMask<Integer> empty = a.compare(VectorOperators.EQ, 0);
+                a.blend(b, empty).intoArray(work, t * LANES);
+                b.blend(0, empty).intoArray(work, (t + 1) * LANES);
+            }
+        }
+    }
+
+    // merges equal adjacent non-empty tiles from the front; a tile emptied by a
+    // merge is never merged again
+    private IntVector merge(int size, IntVector score) {
+        for (int t = 0; t + 1 < size; t++) {
+            IntVector a = IntVector.fromArray(SPECIES, work, t * LANES);
+            IntVector b = IntVector.fromArray(SPECIES, work, (t + 1) * LANES);
+            VectorMask<Integer> merged = a.compare(VectorOperators.EQ, b).and(a.compare(VectorOperators.NE, 0));
+            score = score.add(a.abs().add(b.abs()), merged);
+            a.add(b, merged).intoArray(work, t * LANES);
+            b.blend(0, merged).intoArray(work, (t + 1) * LANES);
+        }
+        return score;
+    }
+}
@@ -0,0 +1,244 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BitBoard Module (Library)
+ */
+
+package src.model;
+
+/**
+ * @brief A library containing functions for a packed representation of the
+ *        2048 game board stored in a single 64-bit long.
+ * @details Each of the 16 tiles is stored as a 4-bit exponent (i.e. a tile
+ *          with value 2^e is stored as e and an empty tile is stored as 0). The
+ *          tile at position i, j is stored in bits [4 * (4 * j + i), 4 * (4 * j
+ *          + i) + 4), so row j of the board occupies bits [16 * j, 16 * j + 16)
+ *          with i = 0 in the lowest nibble. Copying a packed board is an
+ *          assignment and equality is a comparison using ==. Assume the indices
+ *          passed to the functions in this library are within the bounds of [0,
+ *          SIZE) as they are not checked.
+ */
+public abstract class BitBoard {
+    /**
+     * @brief The width/height of a packed board.
+     */
+    public static final int SIZE = 4;
+
+    /**
+     * @brief The largest exponent that can be stored in a tile (i.e. the tile
+     *        32768).
+     */
+    public static final int MAX_EXPONENT = 15;
+
+    /**
+     * @brief The packed board with every tile empty.
+     */
+    public static final long EMPTY = 0L;
+
+    /**
+     * @brief Check if the given board can be converted to a packed board without
+     *        loss.
+     * @param board The board to be checked.
+     * @return True if the board is 4x4 and every tile is either 0 or a power of
+     *         two in the range of [2, 2^MAX_EXPONENT].
+     */
+    public static boolean isPackable(BoardT board) {
+        if (board.SIZE != SIZE) {
+            return false;
+        }
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                int value = board.getTile(i, j);
+                if (value != 0 && (value < 2 || value > (1 << MAX_EXPONENT) || (value & (value - 1)) != 0)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @brief Convert a BoardT object to a packed board.
+     * @param board The board to be converted.
+     * @return The packed board representing the given board.
+     * @throws IllegalArgumentException If the given board cannot be packed.
+     * @see isPackable
+     */
+    public static long pack(BoardT board) {
+        if (!isPackable(board)) {
+            throw new IllegalArgumentException(
+                    "The board must be 4x4 with every tile either 0 or a power of two no greater than 2^15.");
+        }
+        long packed = EMPTY;
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                packed = setTile(packed, i, j, board.getTile(i, j));
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * @brief Convert a packed board to a new BoardT object.
+     * @param board The packed board to be converted.
+     * @return A new BoardT object representing the given packed board.
+     */
+    public static BoardT unpack(long board) {
+        BoardT output = new BoardT();
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                output.setTile(i, j, getTile(board, i, j));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * @brief Get the exponent stored at the tile at position i, j of the packed
+     *        board.
+     * @param board The packed board.
+     * @param i     The horizontal index of the tile.
+     * @param j     The vertical index of the tile.
+     * @return The exponent of the tile at position i, j (0 if the tile is empty).
+     */
+    public static int getExponent(long board, int i, int j) {
+        return (int) (board >>> shift(i, j)) & 0xF;
+    }
+
+    /**
+     * @brief Return the packed board with the exponent at the tile at position i,
+     *        j replaced.
+     * @param board    The packed board.
+     * @param i        The horizontal index of the tile.
+     * @param j        The vertical index of the tile.
+     * @param exponent The exponent to be stored in the range of [0, MAX_EXPONENT].
+     * @return The packed board with the exponent stored at position i, j.
+     */
+    public static long setExponent(long board, int i, int j, int exponent) {
+        int shift = shift(i, j);
+        return (board & ~(0xFL << shift)) | ((long) exponent << shift);
+    }
+
+    /**
+     * @brief Get the value stored at the tile at position i, j of the packed
+     *        board.
+     * @param board The packed board.
+     * @param i     The horizontal index of the tile.
+     * @param j     The vertical index of the tile.
+     * @return The value of the tile at position i, j (0 if the tile is empty).
+     */
+    public static int getTile(long board, int i, int j) {
+        return toValue(getExponent(board, i, j));
+    }
+
+    /**
+     * @brief Return the packed board with the value at the tile at position i, j
+     *        replaced.
+     * @details Assume the value is either 0 or a power of two no greater than
+     *          2^MAX_EXPONENT.
+     * @param board The packed board.
+     * @param i     The horizontal index of the tile.
+     * @param j     The vertical index of the tile.
+     * @param value The value to be stored.
+     * @return The packed board with the value stored at position i, j.
+     */
+    public static long setTile(long board, int i, int j, int value) {
+        return setExponent(board, i, j, toExponent(value));
+    }
+
+    /**
+     * @brief Count the number of empty tiles in the packed board.
+     * @param board The packed board.
+     * @return The number of tiles whose exponent is 0.
+     */
+    public static int countEmpty(long board) {
+        return Long.bitCount(emptyMask(board));
+    }
+
+    /**
+     * @brief Get a mask of the empty tiles in the packed board.
+     * @param board The packed board.
+     * @return A 16-bit mask where bit 4 * j + i is set if the tile at position i,
+     *         j is empty.
+     */
+    public static int emptyMask(long board) {
+        // collapse every nibble into its lowest bit, then gather those bits
+        long x = board | (board >>> 1);
+        x |= x >>> 2;
+        x = ~x & 0x1111111111111111L;
+        int mask = 0;
+        while (x != 0) {
+            int bit = Long.numberOfTrailingZeros(x);
+            mask |= 1 << (bit >>> 2);
+            x &= x - 1;
+        }
+        return mask;
+    }
+
+    /**
+     * @brief Get the largest exponent stored in the packed board.
+     * @param board The packed board.
+     * @return The largest exponent of any tile (0 if the board is empty).
+     */
+    public static int maxExponent(long board) {
+        int max = 0;
+        while (board != 0) {
+            max = Math.max(max, (int) (board & 0xF));
+            board >>>= 4;
+        }
+        return max;
+    }
+
+    /**
+     * @brief Get row j of the packed board.
+     * @param board The packed board.
+     * @param j     The vertical index of the row.
+     * @return A 16-bit row where the tile at position i, j is stored in bits [4 *
+     *         i, 4 * i + 4).
+     */
+    public static int getRow(long board, int j) {
+        return (int) (board >>> (j << 4)) & 0xFFFF;
+    }
+
+    /**
+     * @brief Return the transpose of the packed board.
+     * @details The tile at position i, j is moved to position j, i, so the
+     *          columns of the board become its rows.
+     * @param board The packed board.
+     * @return The transposed packed board.
+     */
+    public static long transpose(long board) {
+        long a1 = board & 0xF0F00F0FF0F00F0FL;
+        long a2 = board & 0x0000F0F00000F0F0L;
+        long a3 = board & 0x0F0F00000F0F0000L;
+        long a = a1 | (a2 << 12) | (a3 >>> 12);
+        long b1 = a & 0xFF00FF0000FF00FFL;
+        long b2 = a & 0x00FF00FF00000000L;
+        long b3 = a & 0x00000000FF00FF00L;
+        return b1 | (b2 >>> 24) | (b3 << 24);
+    }
+
+    /**
+     * @brief Convert an exponent to its tile value.
+     * @param exponent The exponent in the range of [0, MAX_EXPONENT].
+     * @return 2^exponent, or 0 if the exponent is 0.
+     */
+    public static int toValue(int exponent) {
+        return exponent == 0 ? 0 : 1 << exponent;
+    }
+
+    /**
+     * @brief Convert a tile value to its exponent.
+     * @details Assume the value is either 0 or a power of two.
+     * @param value The tile value.
+     * @return log2(value), or 0 if the value is 0.
+     */
+    public static int toExponent(int value) {
+        return value == 0 ? 0 : Integer.numberOfTrailingZeros(value);
+    }
+
+    private static int shift(int i, int j) {
+        return (j * SIZE + i) << 2;
+    }
+}
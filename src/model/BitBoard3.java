@@ -0,0 +1,173 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BitBoard3 Module (Library)
+ */
+
+package src.model;
+
+/**
+ * @brief A library containing functions for a packed representation of a 3x3
+ *        game board stored in the lowest 36 bits of a long.
+ * @details The tiles are stored as 4-bit exponents as in the BitBoard module.
+ *          The tile at position i, j is stored in bits [4 * (3 * j + i), 4 * (3
+ *          * j + i) + 4), so row j of the board occupies bits [12 * j, 12 * j +
+ *          12) with i = 0 in the lowest nibble. Assume the indices passed to the
+ *          functions in this library are within the bounds of [0, SIZE) as they
+ *          are not checked.
+ */
+public abstract class BitBoard3 {
+    /**
+     * @brief The width/height of a packed 3x3 board.
+     */
+    public static final int SIZE = 3;
+
+    /**
+     * @brief The packed board with every tile empty.
+     */
+    public static final long EMPTY = 0L;
+
+    /**
+     * @brief Check if the given board can be converted to a packed 3x3 board
+     *        without loss.
+     * @param board The board to be checked.
+     * @return True if the board is 3x3 and every tile is either 0 or a power of
+     *         two in the range of [2, 2^BitBoard.MAX_EXPONENT].
+     */
+    public static boolean isPackable(BoardT board) {
+        if (board.SIZE != SIZE) {
+            return false;
+        }
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                int value = board.getTile(i, j);
+                if (value != 0
+                        && (value < 2 || value > (1 << BitBoard.MAX_EXPONENT) || (value & (value - 1)) != 0)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @brief Convert a BoardT object to a packed 3x3 board.
+     * @param board The board to be converted.
+     * @return The packed board representing the given board.
+     * @throws IllegalArgumentException If the given board cannot be packed.
+     * @see isPackable
+     */
+    public static long pack(BoardT board) {
+        if (!isPackable(board)) {
+            throw new IllegalArgumentException(
+                    "The board must be 3x3 with every tile either 0 or a power of two no greater than 2^15.");
+        }
+        long packed = EMPTY;
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                packed = setExponent(packed, i, j, BitBoard.toExponent(board.getTile(i, j)));
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * @brief Convert a packed 3x3 board to a new BoardT object.
+     * @param board The packed board to be converted.
+     * @return A new 3x3 BoardT object representing the given packed board.
+     */
+    public static BoardT unpack(long board) {
+        BoardT output = new BoardT(SIZE);
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                output.setTile(i, j, BitBoard.toValue(getExponent(board, i, j)));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * @brief Get the exponent stored at the tile at position i, j of the packed
+     *        board.
+     * @param board The packed board.
+     * @param i     The horizontal index of the tile.
+     * @param j     The vertical index of the tile.
+     * @return The exponent of the tile at position i, j (0 if the tile is empty).
+     */
+    public static int getExponent(long board, int i, int j) {
+        return (int) (board >>> shift(i, j)) & 0xF;
+    }
+
+    /**
+     * @brief Return the packed board with the exponent at the tile at position i,
+     *        j replaced.
+     * @param board    The packed board.
+     * @param i        The horizontal index of the tile.
+     * @param j        The vertical index of the tile.
+     * @param exponent The exponent to be stored in the range of [0,
+     *                 BitBoard.MAX_EXPONENT].
+     * @return The packed board with the exponent stored at position i, j.
+     */
+    public static long setExponent(long board, int i, int j, int exponent) {
+        int shift = shift(i, j);
+        return (board & ~(0xFL << shift)) | ((long) exponent << shift);
+    }
+
+    /**
+     * @brief Get a mask of the empty tiles in the packed board.
+     * @param board The packed board.
+     * @return A 9-bit mask where bit 3 * j + i is set if the tile at position i, j
+     *         is empty.
+     */
+    public static int emptyMask(long board) {
+        long x = board | (board >>> 1);
+        x |= x >>> 2;
+        x = ~x & 0x111111111L;
+        int mask = 0;
+        while (x != 0) {
+            int bit = Long.numberOfTrailingZeros(x);
+            mask |= 1 << (bit >>> 2);
+            x &= x - 1;
+        }
+        return mask;
+    }
+
+    /**
+     * @brief Get the largest exponent stored in the packed board.
+     * @param board The packed board.
+     * @return The largest exponent of any tile (0 if the board is empty).
+     */
+    public static int maxExponent(long board) {
+        return BitBoard.maxExponent(board);
+    }
+
+    /**
+     * @brief Get row j of the packed board.
+     * @param board The packed board.
+     * @param j     The vertical index of the row.
+     * @return A 12-bit row where the tile at position i, j is stored in bits [4 *
+     *         i, 4 * i + 4).
+     */
+    public static int getRow(long board, int j) {
+        return (int) (board >>> (j * 12)) & 0xFFF;
+    }
+
+    /**
+     * @brief Return the transpose of the packed board.
+     * @details The tile at position i, j is moved to position j, i, so the
+     *          columns of the board become its rows.
+     * @param board The packed board.
+     * @return The transposed packed board.
+     */
+    public static long transpose(long board) {
+        // the diagonal stays, positions 1, 5 swap with 3, 7 and 2 swaps with 6
+        return (board & 0xF000F000FL)
+                | ((board & 0xF000F0L) << 8) | ((board >>> 8) & 0xF000F0L)
+                | ((board & 0xF00L) << 16) | ((board >>> 16) & 0xF00L);
+    }
+
+    private static int shift(int i, int j) {
+        return (j * SIZE + i) << 2;
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BoardBatchT Module (Abstract Data Type)
+ */
+
+package src.model;
+
+/**
+ * @brief An ADT that holds a batch of boards of the same size in a
+ *        struct-of-arrays layout for bulk evaluation.
+ * @details Instead of one matrix per board, the batch stores one array per
+ *          position of the board: the tile at position i, j of board k is
+ *          element k of lane SIZE * j + i. A move then reads and writes whole
+ *          lanes, which lets a batch engine (see the BatchMoveEngine module)
+ *          process many boards with each instruction. The first getCount()
+ *          boards of the batch are in use.
+ */
+public class BoardBatchT {
+    /**
+     * @brief The width/height of the boards in the batch.
+     */
+    public final int SIZE;
+
+    private final int[][] lanes;
+    private int count;
+
+    /**
+     * @brief Initializes an empty BoardBatchT object.
+     * @param size     The width/height of the boards.
+     * @param capacity The largest number of boards the batch can hold.
+     * @throws IllegalArgumentException If the size is not in the range of
+     *                                  [BoardT.MIN_SIZE, BoardT.MAX_SIZE] or the
+     *                                  capacity is less than 0.
+     */
+    public BoardBatchT(int size, int capacity) {
+        if (size < BoardT.MIN_SIZE || size > BoardT.MAX_SIZE) {
+            throw new IllegalArgumentException("The size of the board must be in the range of [3..8].");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be less than zero.");
+        }
+        SIZE = size;
+        lanes = new int[size * size][capacity];
+    }
+
+    /**
+     * @brief Get the largest number of boards the batch can hold.
+     * @return The capacity of the batch.
+     */
+    public int getCapacity() {
+        return lanes[0].length;
+    }
+
+    /**
+     * @brief Get the number of boards in the batch.
+     * @return The number of boards in use.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @brief Set the number of boards in the batch. Boards that come into use
+     *        keep the tiles they last held.
+     * @param count The number of boards in use.
+     * @throws IllegalArgumentException If the count is less than 0 or greater
+     *                                  than the capacity.
+     */
+    public void setCount(int count) {
+        if (count < 0 || count > getCapacity()) {
+            throw new IllegalArgumentException("The count must be in the range of [0..capacity].");
+        }
+        this.count = count;
+    }
+
+    /**
+     * @brief Add a copy of the given board to the end of the batch.
+     * @param board The board to be added.
+     * @return The index of the board in the batch.
+     * @throws IllegalArgumentException If the board is not the size of the batch.
+     * @throws IllegalStateException    If the batch is full.
+     */
+    public int add(BoardT board) {
+        if (count == getCapacity()) {
+            throw new IllegalStateException("Cannot add a board when the batch is full.");
+        }
+        count++;
+        set(count - 1, board);
+        return count - 1;
+    }
+
+    /**
+     * @brief Replace board k of the batch with a copy of the given board.
+     * @param k     The index of the board in the batch.
+     * @param board The board to be copied.
+     * @throws IllegalArgumentException  If the board is not the size of the batch.
+     * @throws IndexOutOfBoundsException If k is not in the range of [0,
+     *                                   getCount()).
+     */
+    public void set(int k, BoardT board) {
+        checkIndex(k);
+        if (board.SIZE != SIZE) {
+            throw new IllegalArgumentException("The board must be the size of the batch.");
+        }
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                lanes[j * SIZE + i][k] = board.getTile(i, j);
+            }
+        }
+    }
+
+    /**
+     * @brief Return a copy of board k of the batch.
+     * @param k The index of the board in the batch.
+     * @return A new BoardT object equal to board k.
+     * @throws IndexOutOfBoundsException If k is not in the range of [0,
+     *                                   getCount()).
+     */
+    public BoardT get(int k) {
+        checkIndex(k);
+        BoardT board = new BoardT(SIZE);
+        for (int j = 0; j < SIZE; j++) {
+            for (int i = 0; i < SIZE; i++) {
+                board.setTile(i, j, lanes[j * SIZE + i][k]);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * @brief Get the value of the tile at position i, j of board k.
+     * @param k The index of the board in the batch.
+     * @param i The horizontal index of the tile.
+     * @param j The vertical index of the tile.
+     * @return The value of the tile.
+     * @throws IndexOutOfBoundsException If k is not in the range of [0,
+     *                                   getCount()) or i or j is not in the range
+     *                                   of [0, SIZE).
+     */
+    public int getTile(int k, int i, int j) {
+        checkIndex(k);
+        checkPosition(i, j);
+        return lanes[j * SIZE + i][k];
+    }
+
+    /**
+     * @brief Set the value of the tile at position i, j of board k.
+     * @param k     The index of the board in the batch.
+     * @param i     The horizontal index of the tile.
+     * @param j     The vertical index of the tile.
+     * @param value The value to be stored.
+     * @throws IndexOutOfBoundsException If k is not in the range of [0,
+     *                                   getCount()) or i or j is not in the range
+     *                                   of [0, SIZE).
+     */
+    public void setTile(int k, int i, int j, int value) {
+        checkIndex(k);
+        checkPosition(i, j);
+        lanes[j * SIZE + i][k] = value;
+    }
+
+    /**
+     * @brief Get the lane holding the tile at the given position of every board.
+     * @details The array is not copied, so changes to it change the batch.
+     *          Elements at or after getCount() are not in use.
+     * @param position The position SIZE * j + i of the tile.
+     * @return The array whose element k is the tile at the position of board k.
+     */
+    public int[] getLane(int position) {
+        return lanes[position];
+    }
+
+    private void checkIndex(int k) {
+        if (k < 0 || k >= count) {
+            throw new IndexOutOfBoundsException("The index k must be in the range of [0..count).");
+        }
+    }
+
+    private void checkPosition(int i, int j) {
+        if (i < 0 || i >= SIZE || j < 0 || j >= SIZE) {
+            throw new IndexOutOfBoundsException("The indices i and j must be in the range of [0..SIZE).");
+        }
+    }
+}
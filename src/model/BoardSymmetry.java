@@ -0,0 +1,232 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: BoardSymmetry Module (Library)
+ */
+
+package src.model;
+
+/**
+ * @brief A library containing functions for the 8 rotations and reflections
+ *        of a board (the dihedral group D4) and for choosing a single
+ *        representative (the canonical board) of the boards they relate.
+ * @details A symmetry is an int s in the range of [0, COUNT): bit 0 reflects
+ *          the board horizontally, bit 1 reflects it vertically and bit 2 then
+ *          transposes it (as in NTupleNetwork), and 0 is the identity. Related
+ *          boards have the same value and the same legal moves up to the
+ *          symmetry, so a table keyed by the canonical board holds one entry
+ *          for up to 8 positions. To play a move found on the canonical board c
+ *          = transform(board, s), use transform(direction, inverse(s)) on the
+ *          original board.
+ */
+public abstract class BoardSymmetry {
+    /**
+     * @brief The number of symmetries of a board.
+     */
+    public static final int COUNT = 8;
+
+    private static final int REFLECT_HORIZONTALLY = 1;
+    private static final int REFLECT_VERTICALLY = 2;
+    private static final int TRANSPOSE = 4;
+
+    /**
+     * @brief Get the symmetry that undoes the given symmetry.
+     * @param s The symmetry in the range of [0, COUNT).
+     * @return The symmetry t such that transform(transform(board, s), t) is equal
+     *         to board.
+     */
+    public static int inverse(int s) {
+        if ((s & TRANSPOSE) == 0) {
+            return s;
+        }
+        // transposing swaps which reflection acts on rows and which on columns
+        return TRANSPOSE | ((s & REFLECT_HORIZONTALLY) << 1) | ((s & REFLECT_VERTICALLY) >>> 1);
+    }
+
+    /**
+     * @brief Map a direction by the given symmetry.
+     * @param direction The direction of a move on the original board.
+     * @param s         The symmetry in the range of [0, COUNT).
+     * @return The direction of the same move on the transformed board, so moving
+     *         transform(board, s) in it gives the transform of moving board in
+     *         the given direction.
+     */
+    public static DirectionT transform(DirectionT direction, int s) {
+        if ((s & REFLECT_HORIZONTALLY) != 0) {
+            direction = direction == DirectionT.LEFT ? DirectionT.RIGHT
+                    : direction == DirectionT.RIGHT ? DirectionT.LEFT : direction;
+        }
+        if ((s & REFLECT_VERTICALLY) != 0) {
+            direction = direction == DirectionT.UP ? DirectionT.DOWN
+                    : direction == DirectionT.DOWN ? DirectionT.UP : direction;
+        }
+        if ((s & TRANSPOSE) != 0) {
+            switch (direction) {
+                case LEFT:
+                    return DirectionT.UP;
+                case RIGHT:
+                    return DirectionT.DOWN;
+                case UP:
+                    return DirectionT.LEFT;
+                default:
+                    return DirectionT.RIGHT;
+            }
+        }
+        return direction;
+    }
+
+    /**
+     * @brief Return the given board mapped by the given symmetry.
+     * @param board The board to be transformed.
+     * @param s     The symmetry in the range of [0, COUNT).
+     * @return A new BoardT object of the same size where the tile at position i,
+     *         j of the given board is moved to its image under the symmetry.
+     */
+    public static BoardT transform(BoardT board, int s) {
+        int last = board.SIZE - 1;
+        BoardT output = new BoardT(board.SIZE);
+        for (int j = 0; j < board.SIZE; j++) {
+            for (int i = 0; i < board.SIZE; i++) {
+                int x = (s & REFLECT_HORIZONTALLY) != 0 ? last - i : i;
+                int y = (s & REFLECT_VERTICALLY) != 0 ? last - j : j;
+                if ((s & TRANSPOSE) != 0) {
+                    output.setTile(y, x, board.getTile(i, j));
+                } else {
+                    output.setTile(x, y, board.getTile(i, j));
+                }
+            }
+        }
+        return output;
+    }
+
+    /**
+     * @brief Return the packed board (see the BitBoard module) mapped by the given
+     *        symmetry.
+     * @param board The packed board to be transformed.
+     * @param s     The symmetry in the range of [0, COUNT).
+     * @return The transformed packed board. It is equal to
+     *         BitBoard.pack(transform(BitBoard.unpack(board), s)).
+     */
+    public static long transform(long board, int s) {
+        if ((s & REFLECT_HORIZONTALLY) != 0) {
+            board = reflectHorizontally(board);
+        }
+        if ((s & REFLECT_VERTICALLY) != 0) {
+            board = reflectVertically(board);
+        }
+        if ((s & TRANSPOSE) != 0) {
+            board = BitBoard.transpose(board);
+        }
+        return board;
+    }
+
+    /**
+     * @brief Get the symmetry that maps the given packed board to its canonical
+     *        board.
+     * @details The canonical board is the smallest of the 8 transformed boards
+     *          compared as unsigned longs. If several symmetries give it (i.e.
+     *          the board is itself symmetric), the smallest one is returned.
+     * @param board The packed board.
+     * @return The symmetry s such that transform(board, s) is the canonical
+     *         board.
+     */
+    public static int canonicalSymmetry(long board) {
+        int best = 0;
+        long min = board;
+        for (int s = 1; s < COUNT; s++) {
+            long image = transform(board, s);
+            if (Long.compareUnsigned(image, min) < 0) {
+                min = image;
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief Return the canonical board of the given packed board.
+     * @param board The packed board.
+     * @return The smallest of the 8 transformed boards compared as unsigned
+     *         longs, which is the same for every board related to the given one.
+     * @see canonicalSymmetry(long)
+     */
+    public static long canonical(long board) {
+        long horizontal = reflectHorizontally(board);
+        long vertical = reflectVertically(board);
+        long both = reflectVertically(horizontal);
+        long min = minUnsigned(minUnsigned(board, horizontal), minUnsigned(vertical, both));
+        long transposed = minUnsigned(minUnsigned(BitBoard.transpose(board), BitBoard.transpose(horizontal)),
+                minUnsigned(BitBoard.transpose(vertical), BitBoard.transpose(both)));
+        return minUnsigned(min, transposed);
+    }
+
+    /**
+     * @brief Get the symmetry that maps the given board to its canonical board.
+     * @details The canonical board is the smallest of the 8 transformed boards
+     *          compared tile by tile, row by row from position 0, 0. If several
+     *          symmetries give it, the smallest one is returned.
+     * @param board The board.
+     * @return The symmetry s such that transform(board, s) is the canonical
+     *         board.
+     */
+    public static int canonicalSymmetry(BoardT board) {
+        int best = 0;
+        for (int s = 1; s < COUNT; s++) {
+            if (compare(board, s, best) < 0) {
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @brief Return the canonical board of the given board.
+     * @param board The board.
+     * @return A new BoardT object equal to the canonical board, which is the same
+     *         for every board related to the given one.
+     * @see canonicalSymmetry(BoardT)
+     */
+    public static BoardT canonical(BoardT board) {
+        return transform(board, canonicalSymmetry(board));
+    }
+
+    // compares the images of the board under symmetries s and t without creating
+    // them, by reading the tile that each image has at every position
+    private static int compare(BoardT board, int s, int t) {
+        int inverseS = inverse(s);
+        int inverseT = inverse(t);
+        for (int j = 0; j < board.SIZE; j++) {
+            for (int i = 0; i < board.SIZE; i++) {
+                int a = mappedTile(board, i, j, inverseS);
+                int b = mappedTile(board, i, j, inverseT);
+                if (a != b) {
+                    return Integer.compare(a, b);
+                }
+            }
+        }
+        return 0;
+    }
+
+    // the tile of the board at the image of position i, j under symmetry s
+    private static int mappedTile(BoardT board, int i, int j, int s) {
+        int last = board.SIZE - 1;
+        int x = (s & REFLECT_HORIZONTALLY) != 0 ? last - i : i;
+        int y = (s & REFLECT_VERTICALLY) != 0 ? last - j : j;
+        return (s & TRANSPOSE) != 0 ? board.getTile(y, x) : board.getTile(x, y);
+    }
+
+    private static long reflectHorizontally(long board) {
+        // swap the tiles in each byte, then the bytes in each row
+        board = ((board & 0x0F0F0F0F0F0F0F0FL) << 4) | ((board >>> 4) & 0x0F0F0F0F0F0F0F0FL);
+        return ((board & 0x00FF00FF00FF00FFL) << 8) | ((board >>> 8) & 0x00FF00FF00FF00FFL);
+    }
+
+    private static long reflectVertically(long board) {
+        return (board << 48) | ((board & 0xFFFF0000L) << 16) | ((board >>> 16) & 0xFFFF0000L) | (board >>> 48);
+    }
+
+    private static long minUnsigned(long a, long b) {
+        return Long.compareUnsigned(a, b) <= 0 ? a : b;
+    }
+}
@@ -1,32 +1,66 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 10, 2021
+ * Revised: October 18, 2026
  *
  * Description: BoardT Module (Abstract Data Type)
  */
 
 package src.model;
 
+import java.util.Arrays;
+
 /**
  * @brief An ADT that implements the board for the 2048 game using a matrix
  *        (2-dimensional array) of integer values to represent the state of the
  *        board.
  * @details Assume the top-left position of the board is (i, j) = (0, 0) and
  *          assume the bottom-right position of the board is (i, j) = (SIZE-1,
- *          SIZE-1).
+ *          SIZE-1). For a compact representation of the board that fits in a
+ *          single long, see the BitBoard module (4x4) and the BitBoard3 module
+ *          (3x3).
  */
 public class BoardT {
+    /**
+     * @brief The default width/height of a board.
+     */
+    public static final int DEFAULT_SIZE = 4;
+
+    /**
+     * @brief The smallest width/height of a board.
+     */
+    public static final int MIN_SIZE = 3;
+
+    /**
+     * @brief The largest width/height of a board.
+     */
+    public static final int MAX_SIZE = 8;
+
     /**
      * @brief The width/height of the board.
      */
-    public final int SIZE = 4;
+    public final int SIZE;
 
     private int[][] tiles;
 
     /**
-     * @brief Initializes a BoardT object with all tiles set to 0 (i.e. empty).
+     * @brief Initializes a 4x4 BoardT object with all tiles set to 0 (i.e. empty).
      */
     public BoardT() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * @brief Initializes a BoardT object of the given width/height with all tiles
+     *        set to 0 (i.e. empty).
+     * @param size The width/height of the board.
+     * @throws IllegalArgumentException If the size is not in the range of
+     *                                  [MIN_SIZE, MAX_SIZE].
+     */
+    public BoardT(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("The size of the board must be in the range of [3..8].");
+        }
+        SIZE = size;
         tiles = new int[SIZE][SIZE];
     }
 
@@ -87,33 +121,65 @@ public class BoardT {
         return true;
     }
 
+    /**
+     * @brief Get a bit mask of the empty tiles of the board.
+     * @return A mask where bit SIZE * j + i is set if the tile at position i, j is
+     *         empty.
+     */
+    public long emptyMask() {
+        long mask = 0;
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                if (tiles[i][j] == 0) {
+                    mask |= 1L << (j * SIZE + i);
+                }
+            }
+        }
+        return mask;
+    }
+
     /**
      * @brief Check if board is equal to another given board.
      * @param other The board to compare equivalence with.
-     * @return True if every tile in the board has the same value as very tile in other board.
+     * @return True if the boards are the same size and every tile in the board has the same value as very tile in other board.
      */
     public boolean equals(BoardT other) {
+        if (SIZE != other.SIZE) {
+            return false;
+        }
         for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                if (getTile(i, j) != other.getTile(i, j)) {
-                    return false;
-                }
+            if (!Arrays.equals(tiles[i], other.tiles[i])) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * @brief Copy the value of every tile of the current BoardT object into another
+     *        BoardT object of the same size.
+     * @param other The board that the tiles are copied to.
+     * @throws IllegalArgumentException If the other board is not the same size.
+     */
+    public void copyTo(BoardT other) {
+        if (other == this) {
+            return;
+        }
+        if (SIZE != other.SIZE) {
+            throw new IllegalArgumentException("The boards must be the same size.");
+        }
+        for (int i = 0; i < SIZE; i++) {
+            System.arraycopy(tiles[i], 0, other.tiles[i], 0, SIZE);
+        }
+    }
+
     /**
      * @brief Make and return a copy of the current BoardT object.
      * @return A BoardT object that is equal to the current BoardT object
      */
     public BoardT copy() {
-        BoardT myCopy = new BoardT();
-        for (int i = 0; i < SIZE; i++) {
-            for (int j = 0; j < SIZE; j++) {
-                myCopy.setTile(i, j, getTile(i, j));
-            }
-        }
+        BoardT myCopy = new BoardT(SIZE);
+        copyTo(myCopy);
         return myCopy;
     }
 }
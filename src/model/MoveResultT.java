@@ -0,0 +1,59 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: MoveResultT Module (Abstract Data Type)
+ */
+
+package src.model;
+
+/**
+ * @brief An ADT that holds the outcome of making a move on a board: the
+ *        resulting board, the points accumulated and whether the move changed
+ *        the board.
+ * @details The resulting board is owned by the MoveResultT object and is not
+ *          copied when it is accessed.
+ */
+public class MoveResultT {
+    private final BoardT board;
+    private final int points;
+    private final boolean changed;
+
+    /**
+     * @brief Initializes a MoveResultT object.
+     * @param board   The board resulting from the move.
+     * @param points  The number of points accumulated from the move.
+     * @param changed True if the resulting board is not equal to the board prior
+     *                to the move.
+     */
+    public MoveResultT(BoardT board, int points, boolean changed) {
+        this.board = board;
+        this.points = points;
+        this.changed = changed;
+    }
+
+    /**
+     * @brief Get the board resulting from the move.
+     * @return The BoardT object resulting from the move.
+     */
+    public BoardT getBoard() {
+        return board;
+    }
+
+    /**
+     * @brief Get the number of points accumulated from the move.
+     * @return The number of points accumulated from the move.
+     */
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * @brief Check if the move changed the board.
+     * @return True if the resulting board is not equal to the board prior to the
+     *         move.
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+}
@@ -1,6 +1,6 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 10, 2021
+ * Revised: October 18, 2026
  *
  * Description: ScoreT Module (Abstract Object)
  */
@@ -10,11 +10,13 @@ package src.model;
 /**
  * @brief An abstract object that maintains the score and high score of the
  *        game.
+ * @details The score is stored in the ScoreTrackerT object of the default game
+ *          session (see the Controller module). Independent game sessions own
+ *          their own ScoreTrackerT objects.
  */
 public abstract class ScoreT {
 
-  private static int score = 0;
-  private static int highScore = 0;
+  private static final ScoreTrackerT tracker = new ScoreTrackerT();
 
   /**
    * @brief Initialize the score and high score of the game.
@@ -27,19 +29,7 @@ public abstract class ScoreT {
    *                                  is less than the initial score.
    */
   public static void initialize(int initialScore, int initialHighScore) {
-    if (initialScore < 0 || initialHighScore < 0) {
-      throw new IllegalArgumentException(
-        "The initial score and initial high score must be greater than zero."
-      );
-    }
-    if (initialHighScore < initialScore) {
-      throw new IllegalArgumentException(
-        "The initial high score must not be less than the initial score."
-      );
-    }
-
-    score = initialScore;
-    highScore = initialHighScore;
+    tracker.initialize(initialScore, initialHighScore);
   }
 
   /**
@@ -50,15 +40,7 @@ public abstract class ScoreT {
    *                                  0.
    */
   public static void updateScore(int points) {
-    if (points < 0) {
-      throw new IllegalArgumentException(
-        "The value of points must be greater than zero."
-      );
-    }
-    score = score + points;
-    if (score > highScore) {
-      highScore = score;
-    }
+    tracker.updateScore(points);
   }
 
   /**
@@ -66,7 +48,7 @@ public abstract class ScoreT {
    * @return The current score of the game.
    */
   public static int getScore() {
-    return score;
+    return tracker.getScore();
   }
 
   /**
@@ -74,13 +56,21 @@ public abstract class ScoreT {
    * @return The current high score of the game.
    */
   public static int getHighScore() {
-    return highScore;
+    return tracker.getHighScore();
   }
 
   /**
    * @brief Reset the current score of the game back to 0.
    */
   public static void resetScore() {
-    score = 0;
+    tracker.resetScore();
+  }
+
+  /**
+   * @brief Get the ScoreTrackerT object that this module is a facade over.
+   * @return The ScoreTrackerT object of the default game session.
+   */
+  public static ScoreTrackerT getTracker() {
+    return tracker;
   }
 }
@@ -0,0 +1,97 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: ScoreTrackerT Module (Abstract Data Type)
+ */
+
+package src.model;
+
+/**
+ * @brief An ADT that maintains the score and high score of a single game.
+ * @details Every game session owns its own ScoreTrackerT object. The ScoreT
+ *          module is a facade over the ScoreTrackerT object of the default
+ *          session.
+ */
+public class ScoreTrackerT {
+
+  private int score;
+  private int highScore;
+
+  /**
+   * @brief Initializes a ScoreTrackerT object with the score and high score set
+   *        to 0.
+   */
+  public ScoreTrackerT() {
+    score = 0;
+    highScore = 0;
+  }
+
+  /**
+   * @brief Initialize the score and high score of the game.
+   * @details By default, the score and high score are set to 0 but this is used
+   *          for purposes of resuming a previous game.
+   * @param initalScore      The initial score of the game.
+   * @param initialHighScore The initial high score of the game.
+   * @throws IllegalArgumentException If the initial score or initial high score
+   *                                  is less than 0 or if the initial high score
+   *                                  is less than the initial score.
+   */
+  public void initialize(int initialScore, int initialHighScore) {
+    if (initialScore < 0 || initialHighScore < 0) {
+      throw new IllegalArgumentException(
+        "The initial score and initial high score must be greater than zero."
+      );
+    }
+    if (initialHighScore < initialScore) {
+      throw new IllegalArgumentException(
+        "The initial high score must not be less than the initial score."
+      );
+    }
+
+    score = initialScore;
+    highScore = initialHighScore;
+  }
+
+  /**
+   * @brief Add the given number of points to the current score and update the
+   *        high score if necessary.
+   * @param points The number of points to be added to current score.
+   * @throws IllegalArgumentException If number of points being added is less than
+   *                                  0.
+   */
+  public void updateScore(int points) {
+    if (points < 0) {
+      throw new IllegalArgumentException(
+        "The value of points must be greater than zero."
+      );
+    }
+    score = score + points;
+    if (score > highScore) {
+      highScore = score;
+    }
+  }
+
+  /**
+   * @brief Get the value of the current score of the game.
+   * @return The current score of the game.
+   */
+  public int getScore() {
+    return score;
+  }
+
+  /**
+   * @brief Get the value of the current high score of the game.
+   * @return The current high score of the game.
+   */
+  public int getHighScore() {
+    return highScore;
+  }
+
+  /**
+   * @brief Reset the current score of the game back to 0.
+   */
+  public void resetScore() {
+    score = 0;
+  }
+}
@@ -0,0 +1,167 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: SimulationStatsT Module (Abstract Data Type)
+ */
+
+package src.model;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * @brief An ADT that holds the aggregate statistics of a batch of simulated
+ *        games.
+ * @details The results of game k are stored at index k of each array, so the
+ *          statistics do not depend on the order in which the games finished.
+ */
+public class SimulationStatsT {
+    private final int[] scores;
+    private final int[] maxTiles;
+    private final int[] moves;
+    private final long elapsedNanos;
+
+    /**
+     * @brief Initializes a SimulationStatsT object from the results of each game.
+     * @param scores       The final score of each game.
+     * @param maxTiles     The largest tile reached in each game.
+     * @param moves        The number of moves made in each game.
+     * @param elapsedNanos The wall-clock time taken to play all of the games in
+     *                     nanoseconds.
+     * @throws IllegalArgumentException If the arrays are not of the same length.
+     */
+    public SimulationStatsT(int[] scores, int[] maxTiles, int[] moves, long elapsedNanos) {
+        if (scores.length != maxTiles.length || scores.length != moves.length) {
+            throw new IllegalArgumentException("The results of every game must be given.");
+        }
+        this.scores = scores.clone();
+        this.maxTiles = maxTiles.clone();
+        this.moves = moves.clone();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @brief Get the number of games played.
+     * @return The number of games played.
+     */
+    public int getGames() {
+        return scores.length;
+    }
+
+    /**
+     * @brief Get the final score of every game.
+     * @return A copy of the final score of each game, in the order of the games.
+     */
+    public int[] getScores() {
+        return scores.clone();
+    }
+
+    /**
+     * @brief Get the largest tile reached in every game.
+     * @return A copy of the largest tile of each game, in the order of the games.
+     */
+    public int[] getMaxTiles() {
+        return maxTiles.clone();
+    }
+
+    /**
+     * @brief Get the number of moves made in every game.
+     * @return A copy of the number of moves of each game, in the order of the
+     *         games.
+     */
+    public int[] getMoves() {
+        return moves.clone();
+    }
+
+    /**
+     * @brief Get the mean final score of the games.
+     * @return The mean final score (0 if no games were played).
+     */
+    public double getMeanScore() {
+        return mean(scores);
+    }
+
+    /**
+     * @brief Get the final score at the given percentile of the score
+     *        distribution.
+     * @param percentile The percentile in the range of [0, 100].
+     * @return The final score at the given percentile (nearest-rank method).
+     * @throws IllegalArgumentException If the percentile is not in the range of [0,
+     *                                  100].
+     * @throws IllegalStateException    If no games were played.
+     */
+    public int getScorePercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be in the range of [0..100].");
+        }
+        if (scores.length == 0) {
+            throw new IllegalStateException("Cannot get a percentile when no games were played.");
+        }
+        int[] sorted = scores.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    /**
+     * @brief Get the number of games that reached each largest tile.
+     * @return A map from the largest tile of a game to the number of games with
+     *         that largest tile, in increasing order of the tile.
+     */
+    public SortedMap<Integer, Integer> getMaxTileHistogram() {
+        SortedMap<Integer, Integer> histogram = new TreeMap<>();
+        for (int tile : maxTiles) {
+            histogram.merge(tile, 1, Integer::sum);
+        }
+        return histogram;
+    }
+
+    /**
+     * @brief Get the mean number of moves made per game.
+     * @return The mean number of moves per game (0 if no games were played).
+     */
+    public double getMeanMoves() {
+        return mean(moves);
+    }
+
+    /**
+     * @brief Get the total number of moves made in all of the games.
+     * @return The total number of moves.
+     */
+    public long getTotalMoves() {
+        long total = 0;
+        for (int m : moves) {
+            total += m;
+        }
+        return total;
+    }
+
+    /**
+     * @brief Get the wall-clock time taken to play all of the games.
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @brief Get the throughput of the simulation.
+     * @return The number of games played per second of wall-clock time.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : scores.length / (elapsedNanos / 1e9);
+    }
+
+    private static double mean(int[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return (double) sum / values.length;
+    }
+}
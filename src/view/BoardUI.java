@@ -1,6 +1,6 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 11, 2021
+ * Revised: October 18, 2026
  *
  * Description: BoardUI Module (Abstract Data Type)
  */
@@ -22,7 +22,8 @@ import src.model.BoardT;
  * @details This module extends the Java Swing JPanel class and implements the
  *          ComponentUI interface. The BoardT instance is accessed directly from
  *          the Controller module and displayed in a grid layout using TileUI
- *          components.
+ *          components, with one component per tile of the board (from 3x3 to
+ *          8x8).
  */
 public class BoardUI extends JPanel implements ComponentUI {
     private TileUI[][] tiles;
@@ -35,25 +36,25 @@ public class BoardUI extends JPanel implements ComponentUI {
      */
     public BoardUI() {
         board = Controller.getBoard();
-        tiles = new TileUI[board.SIZE][board.SIZE];
-        setLayout(new GridLayout(board.SIZE, board.SIZE));
         setBorder(BorderFactory.createLineBorder(new Color(0xbbada0), 5));
         setBackground(new Color(0xbbada0));
-        for (int j = 0; j < board.SIZE; j++) {
-            for (int i = 0; i < board.SIZE; i++) {
-                tiles[i][j] = new TileUI(board.getTile(i, j));
-                add(tiles[i][j]);
-            }
-        }
+        addTiles();
     }
 
     /**
      * @brief Access the current BoardT instance from the Controller module and
-     *        set/update each TileUI component.
+     *        set/update each TileUI component. The TileUI components are replaced
+     *        if the size of the board has changed.
      */
     @Override
     public void update() {
         board = Controller.getBoard();
+        if (board.SIZE != tiles.length) {
+            removeAll();
+            addTiles();
+            revalidate();
+            return;
+        }
         for (int j = 0; j < board.SIZE; j++) {
             for (int i = 0; i < board.SIZE; i++) {
                 tiles[i][j].setValue(board.getTile(i, j));
@@ -61,4 +62,17 @@ public class BoardUI extends JPanel implements ComponentUI {
             }
         }
     }
+
+    private void addTiles() {
+        // the font shrinks with the tiles so that 4 digits fit on an 8x8 board
+        int fontSize = 28 * BoardT.DEFAULT_SIZE / Math.max(board.SIZE, BoardT.DEFAULT_SIZE);
+        tiles = new TileUI[board.SIZE][board.SIZE];
+        setLayout(new GridLayout(board.SIZE, board.SIZE));
+        for (int j = 0; j < board.SIZE; j++) {
+            for (int i = 0; i < board.SIZE; i++) {
+                tiles[i][j] = new TileUI(board.getTile(i, j), fontSize);
+                add(tiles[i][j]);
+            }
+        }
+    }
 }
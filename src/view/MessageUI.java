@@ -51,10 +51,11 @@ public class MessageUI extends JLabel implements ComponentUI {
         if (Controller.isGameOver()) {
             setText("Game over!");
         } else {
-            if (Controller.nextTileToGet() == 2048) {
+            int nextTile = Controller.nextTileToGet();
+            if (nextTile == 2048) {
                 setText("Join the tiles, get to 2048!");
             } else {
-                setText("You won! Try to get to " + Controller.nextTileToGet() + "!");
+                setText("You won! Try to get to " + nextTile + "!");
             }
         }
     }
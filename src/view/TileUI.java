@@ -1,6 +1,6 @@
 /**
  * Author: Saruggan Thiruchelvan (thirus6)
- * Revised: April 11, 2021
+ * Revised: October 18, 2026
  *
  * Description: TileUI Module (Abstract Data Type)
  */
@@ -35,11 +35,22 @@ public class TileUI extends JLabel implements ComponentUI {
      *                    initial value is set to 0.
      */
     public TileUI(int initalValue) {
+        this(initalValue, 28);
+    }
+
+    /**
+     * @brief Initialize and setup the look of the JLabel with the given font size
+     *        (for smaller tiles on larger boards) as well as set its value.
+     * @param initalValue The intial value of the tile. If the tile is "empty", the
+     *                    initial value is set to 0.
+     * @param fontSize    The point size of the text of the tile.
+     */
+    public TileUI(int initalValue, int fontSize) {
         value = initalValue;
 
         setHorizontalAlignment(CENTER);
         setVerticalAlignment(CENTER);
-        setFont(new Font("Helvetica", Font.BOLD, 28));
+        setFont(new Font("Helvetica", Font.BOLD, fontSize));
         setBorder(BorderFactory.createLineBorder(new Color(0xbbada0), 5));
         setOpaque(true);
 
@@ -0,0 +1,203 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the BoardBatchT and BatchMoveEngine modules using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.controller.BatchMoveEngine;
+import src.controller.BoardManager;
+import src.controller.ScalarMoveEngine;
+import src.controller.VectorMoveEngine;
+import src.model.BoardBatchT;
+import src.model.BoardT;
+import src.model.DirectionT;
+import src.model.MoveResultT;
+
+public class TestBatchMoveEngine {
+
+  private BoardT board1;
+
+  @Before
+  public void setUp() {
+    board1 = new BoardT();
+    board1.setTile(0, 0, 2);
+    board1.setTile(1, 0, 2);
+    board1.setTile(3, 0, 4);
+    board1.setTile(2, 2, 8);
+  }
+
+  @After
+  public void tearDown() {
+    board1 = null;
+  }
+
+  // a batch of random boards, mostly with small tiles so that many merge
+  private static BoardBatchT randomBatch(int size, int count, Random rand) {
+    BoardBatchT batch = new BoardBatchT(size, count);
+    BoardT board = new BoardT(size);
+    for (int k = 0; k < count; k++) {
+      for (int j = 0; j < size; j++) {
+        for (int i = 0; i < size; i++) {
+          int exponent = rand.nextInt(5);
+          board.setTile(i, j, exponent == 0 ? 0 : 1 << exponent);
+        }
+      }
+      batch.add(board);
+    }
+    return batch;
+  }
+
+  private static boolean movesLikeBoardManager(BatchMoveEngine engine, BoardBatchT batch) {
+    boolean output = true;
+    int count = batch.getCount();
+    for (DirectionT direction : DirectionT.values()) {
+      BoardBatchT out = new BoardBatchT(batch.SIZE, count);
+      int[] points = new int[count];
+      boolean[] changed = new boolean[count];
+      engine.move(batch, direction, out, points, changed);
+      output = output && out.getCount() == count;
+      for (int k = 0; k < count; k++) {
+        MoveResultT result = BoardManager.move(batch.get(k), direction);
+        output = output && result.getBoard().equals(out.get(k));
+        output = output && result.getPoints() == points[k];
+        output = output && result.isChanged() == changed[k];
+      }
+    }
+    return output;
+  }
+
+  @Test
+  public void test_batchAddGet() {
+    BoardBatchT batch = new BoardBatchT(4, 2);
+    batch.add(new BoardT());
+    assertTrue(batch.add(board1) == 1 && batch.getCount() == 2 && batch.get(1).equals(board1));
+  }
+
+  @Test
+  public void test_batchLayout() {
+    BoardBatchT batch = new BoardBatchT(4, 1);
+    batch.add(board1);
+    assertTrue(batch.getLane(4 * 2 + 2)[0] == 8 && batch.getTile(0, 3, 0) == 4);
+  }
+
+  @Test
+  public void test_batchSetTile() {
+    BoardBatchT batch = new BoardBatchT(4, 1);
+    batch.add(board1);
+    batch.setTile(0, 1, 3, 16);
+    board1.setTile(1, 3, 16);
+    assertTrue(batch.get(0).equals(board1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_batchSizeException() {
+    new BoardBatchT(9, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_batchBoardSizeException() {
+    new BoardBatchT(3, 1).add(board1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_batchFullException() {
+    BoardBatchT batch = new BoardBatchT(4, 1);
+    batch.add(board1);
+    batch.add(board1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void test_batchIndexException() {
+    BoardBatchT batch = new BoardBatchT(4, 2);
+    batch.add(board1);
+    batch.get(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_batchCountException() {
+    new BoardBatchT(4, 2).setCount(3);
+  }
+
+  @Test
+  public void test_scalarMovesLikeBoardManager() {
+    Random rand = new Random(1);
+    boolean output = true;
+    for (int size = BoardT.MIN_SIZE; size <= BoardT.MAX_SIZE; size++) {
+      output = output && movesLikeBoardManager(new ScalarMoveEngine(), randomBatch(size, 37, rand));
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_vectorMovesLikeBoardManager() {
+    Random rand = new Random(2);
+    boolean output = true;
+    for (int size = BoardT.MIN_SIZE; size <= BoardT.MAX_SIZE; size++) {
+      // 37 boards leave a tail for the scalar engine with any vector length
+      output = output && movesLikeBoardManager(new VectorMoveEngine(), randomBatch(size, 37, rand));
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_vectorMovesEmptyBatch() {
+    BoardBatchT batch = new BoardBatchT(4, 0);
+    new VectorMoveEngine().move(batch, DirectionT.LEFT, batch, new int[0], new boolean[0]);
+    assertTrue(batch.getCount() == 0);
+  }
+
+  @Test
+  public void test_moveInPlace() {
+    Random rand = new Random(3);
+    boolean output = true;
+    for (BatchMoveEngine engine : new BatchMoveEngine[] { new ScalarMoveEngine(), new VectorMoveEngine() }) {
+      BoardBatchT batch = randomBatch(5, 40, rand);
+      BoardBatchT expected = new BoardBatchT(5, 40);
+      int[] points = new int[40];
+      boolean[] changed = new boolean[40];
+      engine.move(batch, DirectionT.DOWN, expected, points, changed);
+      engine.move(batch, DirectionT.DOWN, batch, points, changed);
+      for (int k = 0; k < 40; k++) {
+        output = output && expected.get(k).equals(batch.get(k));
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_moveUnchanged() {
+    board1.setTile(2, 2, 0);
+    BoardBatchT batch = new BoardBatchT(4, 1);
+    batch.add(board1);
+    int[] points = new int[] { -1 };
+    boolean[] changed = new boolean[] { true };
+    new ScalarMoveEngine().move(batch, DirectionT.UP, batch, points, changed);
+    assertTrue(points[0] == 0 && !changed[0] && batch.get(0).equals(board1));
+  }
+
+  @Test
+  public void test_create() {
+    assertTrue(BatchMoveEngine.create() instanceof VectorMoveEngine);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_moveSizeException() {
+    BoardBatchT batch = new BoardBatchT(4, 1);
+    new ScalarMoveEngine().move(batch, DirectionT.LEFT, new BoardBatchT(3, 1), new int[1], new boolean[1]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_moveCapacityException() {
+    BoardBatchT batch = new BoardBatchT(4, 2);
+    batch.add(board1);
+    batch.add(board1);
+    new VectorMoveEngine().move(batch, DirectionT.LEFT, batch, new int[1], new boolean[2]);
+  }
+}
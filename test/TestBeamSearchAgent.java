@@ -0,0 +1,87 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the BeamSearchAgent module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.ai.BeamSearchAgent;
+import src.controller.GameSession;
+import src.controller.SimulationRunner;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestBeamSearchAgent {
+
+  private BoardT boardOnlyUp, boardGameOver;
+
+  @Before
+  public void setUp() {
+    boardOnlyUp =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 2, 8, 16, 4 }
+      );
+    boardGameOver =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    boardOnlyUp = null;
+    boardGameOver = null;
+  }
+
+  @Test
+  public void test_chooseMoveOnlyVertical() {
+    BeamSearchAgent agent = new BeamSearchAgent(16, 20, 2);
+    DirectionT move = agent.chooseMove(boardOnlyUp, new Random(0));
+    assertTrue(move == DirectionT.UP || move == DirectionT.DOWN);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_bestMoveException() {
+    new BeamSearchAgent(4, 4, 1).bestMove(BitBoard.pack(boardGameOver), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_constructorException() {
+    new BeamSearchAgent(0, 20, 1);
+  }
+
+  @Test
+  public void test_sameSeed() {
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 2, 1, 4);
+    BeamSearchAgent agent = new BeamSearchAgent(8, 30, 1);
+    DirectionT first = agent.bestMove(board, 42);
+    assertEquals(first, agent.bestMove(board, 42));
+  }
+
+  @Test
+  public void test_lastDepth() {
+    BeamSearchAgent agent = new BeamSearchAgent(8, 25, 1);
+    agent.bestMove(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 0);
+    assertEquals(25, agent.getLastDepth());
+  }
+
+  @Test
+  public void test_playGame() {
+    GameSession session = new GameSession(2048);
+    SimulationRunner.playGame(session, new BeamSearchAgent(32, 20, 1), new Random(0));
+    assertTrue(session.maxTile() >= 512);
+  }
+}
@@ -0,0 +1,131 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the BitBoard module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import src.model.BitBoard;
+import src.model.BoardT;
+
+public class TestBitBoard {
+
+  private BoardT board1, board2, boardOdd;
+
+  @Before
+  public void setUp() {
+    board1 =
+      UnitTests.generateBoard(
+        new int[] { 0, 2, 4, 8 },
+        new int[] { 0, 0, 0, 0 },
+        new int[] { 2, 2, 2, 2 },
+        new int[] { 16, 0, 32, 32768 }
+      );
+    board2 =
+      UnitTests.generateBoard(
+        new int[] { 8, 0, 0, 2 },
+        new int[] { 4, 8, 0, 0 },
+        new int[] { 0, 4, 8, 0 },
+        new int[] { 2, 0, 0, 8 }
+      );
+    boardOdd =
+      UnitTests.generateBoard(
+        new int[] { 10, 11, 12, 10 },
+        new int[] { 0, 0, 0, 0 },
+        new int[] { 0, 0, 0, 0 },
+        new int[] { 0, 0, 0, 0 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    board1 = null;
+    board2 = null;
+    boardOdd = null;
+  }
+
+  @Test
+  public void test_packUnpack1() {
+    assertTrue(board1.equals(BitBoard.unpack(BitBoard.pack(board1))));
+  }
+
+  @Test
+  public void test_packUnpack2() {
+    assertTrue(board2.equals(BitBoard.unpack(BitBoard.pack(board2))));
+  }
+
+  @Test
+  public void test_packEmpty() {
+    assertEquals(BitBoard.EMPTY, BitBoard.pack(new BoardT()));
+  }
+
+  @Test
+  public void test_packLayout() {
+    long packed = BitBoard.pack(board1);
+    assertEquals(0x3210L, packed & 0xFFFF);
+    assertEquals(0xF504L, packed >>> 48);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_packException() {
+    BitBoard.pack(boardOdd);
+  }
+
+  @Test
+  public void test_isPackableTrue() {
+    assertTrue(BitBoard.isPackable(board1));
+  }
+
+  @Test
+  public void test_isPackableFalse() {
+    assertFalse(BitBoard.isPackable(boardOdd));
+  }
+
+  @Test
+  public void test_getTile() {
+    assertEquals(32768, BitBoard.getTile(BitBoard.pack(board1), 3, 3));
+  }
+
+  @Test
+  public void test_setTile() {
+    long packed = BitBoard.setTile(BitBoard.pack(board2), 1, 0, 1024);
+    board2.setTile(1, 0, 1024);
+    assertEquals(BitBoard.pack(board2), packed);
+  }
+
+  @Test
+  public void test_countEmpty() {
+    assertEquals(6, BitBoard.countEmpty(BitBoard.pack(board1)));
+  }
+
+  @Test
+  public void test_emptyMask() {
+    assertEquals(0x20F1, BitBoard.emptyMask(BitBoard.pack(board1)));
+  }
+
+  @Test
+  public void test_maxExponent() {
+    assertEquals(15, BitBoard.maxExponent(BitBoard.pack(board1)));
+  }
+
+  @Test
+  public void test_transpose() {
+    BoardT x = new BoardT();
+    for (int i = 0; i < x.SIZE; i++) {
+      for (int j = 0; j < x.SIZE; j++) {
+        x.setTile(j, i, board1.getTile(i, j));
+      }
+    }
+    assertEquals(BitBoard.pack(x), BitBoard.transpose(BitBoard.pack(board1)));
+  }
+
+  @Test
+  public void test_getRow() {
+    assertEquals(0x1111, BitBoard.getRow(BitBoard.pack(board1), 2));
+  }
+}
@@ -0,0 +1,125 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the BitBoard3 and BitBoard3Manager modules using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.controller.BitBoard3Manager;
+import src.controller.BoardManager;
+import src.model.BitBoard;
+import src.model.BitBoard3;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestBitBoard3 {
+
+  private BoardT board1, boardGameOver;
+
+  @Before
+  public void setUp() {
+    board1 = new BoardT(3);
+    board1.setTile(0, 0, 2);
+    board1.setTile(1, 0, 2);
+    board1.setTile(2, 0, 4);
+    board1.setTile(1, 1, 8);
+    board1.setTile(0, 2, 8);
+    boardGameOver = new BoardT(3);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        boardGameOver.setTile(i, j, (i + j) % 2 == 0 ? 2 : 4);
+      }
+    }
+  }
+
+  @After
+  public void tearDown() {
+    board1 = null;
+    boardGameOver = null;
+  }
+
+  @Test
+  public void test_packUnpack() {
+    assertTrue(board1.equals(BitBoard3.unpack(BitBoard3.pack(board1))));
+  }
+
+  @Test
+  public void test_packLayout() {
+    long packed = BitBoard3.pack(board1);
+    assertTrue(BitBoard3.getRow(packed, 0) == 0x211 && BitBoard3.getRow(packed, 1) == 0x030);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_packException() {
+    BitBoard3.pack(new BoardT());
+  }
+
+  @Test
+  public void test_isPackableFalse() {
+    assertFalse(BitBoard3.isPackable(new BoardT(5)));
+  }
+
+  @Test
+  public void test_emptyMask() {
+    assertEquals((int) board1.emptyMask(), BitBoard3.emptyMask(BitBoard3.pack(board1)));
+  }
+
+  @Test
+  public void test_transpose() {
+    BoardT x = new BoardT(3);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        x.setTile(j, i, board1.getTile(i, j));
+      }
+    }
+    assertEquals(BitBoard3.pack(x), BitBoard3.transpose(BitBoard3.pack(board1)));
+  }
+
+  @Test
+  public void test_moveMatchesBoardManager() {
+    Random rand = new Random(3);
+    for (int n = 0; n < 500; n++) {
+      BoardT board = new BoardT(3);
+      for (int i = 0; i < 3; i++) {
+        for (int j = 0; j < 3; j++) {
+          int exponent = rand.nextInt(4) == 0 ? 0 : 1 + rand.nextInt(4);
+          board.setTile(i, j, BitBoard.toValue(exponent));
+        }
+      }
+      long packed = BitBoard3.pack(board);
+      for (DirectionT direction : DirectionT.values()) {
+        BoardT expected = new BoardT(3);
+        int points = BoardManager.move(board, direction, expected);
+        assertEquals(BitBoard3.pack(expected), BitBoard3Manager.move(packed, direction));
+        assertEquals(
+          points == BoardManager.UNCHANGED ? 0 : points,
+          BitBoard3Manager.scoreFromMove(packed, direction)
+        );
+      }
+    }
+  }
+
+  @Test
+  public void test_isGameOverTrue() {
+    assertTrue(BitBoard3Manager.isGameOver(BitBoard3.pack(boardGameOver)));
+  }
+
+  @Test
+  public void test_isGameOverFalse() {
+    assertFalse(BitBoard3Manager.isGameOver(BitBoard3.pack(board1)));
+  }
+
+  @Test
+  public void test_addRandomTileMatchesBoardManager() {
+    BoardT x = new BoardT(3);
+    BoardManager.addRandomTile(board1, new Random(11), x);
+    long packed = BitBoard3Manager.addRandomTile(BitBoard3.pack(board1), new Random(11));
+    assertEquals(BitBoard3.pack(x), packed);
+  }
+}
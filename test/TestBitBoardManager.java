@@ -0,0 +1,186 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the BitBoardManager module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.controller.BitBoardManager;
+import src.controller.BoardManager;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestBitBoardManager {
+
+  private BoardT boardH1, boardGameOver;
+
+  @Before
+  public void setUp() {
+    boardH1 =
+      UnitTests.generateBoard(
+        new int[] { 2, 2, 2, 2 },
+        new int[] { 4, 4, 0, 0 },
+        new int[] { 0, 8, 8, 0 },
+        new int[] { 2, 0, 2, 4 }
+      );
+    boardGameOver =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    boardH1 = null;
+    boardGameOver = null;
+  }
+
+  @Test
+  public void test_moveLEFT() {
+    BoardT x = UnitTests.generateBoard(
+      new int[] { 4, 4, 0, 0 },
+      new int[] { 8, 0, 0, 0 },
+      new int[] { 16, 0, 0, 0 },
+      new int[] { 4, 4, 0, 0 }
+    );
+    long moved = BitBoardManager.move(BitBoard.pack(boardH1), DirectionT.LEFT);
+    assertEquals(BitBoard.pack(x), moved);
+  }
+
+  @Test
+  public void test_moveRIGHT() {
+    BoardT x = UnitTests.generateBoard(
+      new int[] { 0, 0, 4, 4 },
+      new int[] { 0, 0, 0, 8 },
+      new int[] { 0, 0, 0, 16 },
+      new int[] { 0, 0, 4, 4 }
+    );
+    long moved = BitBoardManager.move(BitBoard.pack(boardH1), DirectionT.RIGHT);
+    assertEquals(BitBoard.pack(x), moved);
+  }
+
+  @Test
+  public void test_scoreFromMoveLEFT() {
+    long board = BitBoard.pack(boardH1);
+    assertEquals(8 + 8 + 16 + 4, BitBoardManager.scoreFromMove(board, DirectionT.LEFT));
+  }
+
+  @Test
+  public void test_moveMaxExponentNotMerged() {
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 32768), 1, 0, 32768);
+    assertEquals(board, BitBoardManager.move(board, DirectionT.LEFT));
+  }
+
+  @Test
+  public void test_moveMatchesBoardManager() {
+    Random rand = new Random(2048);
+    for (int n = 0; n < 2000; n++) {
+      BoardT board = randomBoard(rand);
+      long packed = BitBoard.pack(board);
+      for (DirectionT direction : DirectionT.values()) {
+        BoardT aligned = BoardManager.align(board, direction);
+        BoardT expected = BoardManager.align(BoardManager.merge(aligned, direction), direction);
+        assertEquals(BitBoard.pack(expected), BitBoardManager.move(packed, direction));
+        assertEquals(
+          BoardManager.scoreFromMerge(aligned, direction),
+          BitBoardManager.scoreFromMove(packed, direction)
+        );
+      }
+    }
+  }
+
+  @Test
+  public void test_moveBatchMatchesMove() {
+    Random rand = new Random(4096);
+    long[] boards = new long[500];
+    for (int k = 0; k < boards.length; k++) {
+      boards[k] = BitBoard.pack(randomBoard(rand));
+    }
+    boards[0] = BitBoard.pack(boardGameOver);
+    for (DirectionT direction : DirectionT.values()) {
+      long[] out = new long[boards.length];
+      int[] points = new int[boards.length];
+      boolean[] changed = new boolean[boards.length];
+      BitBoardManager.move(boards, direction, out, points, changed);
+      for (int k = 0; k < boards.length; k++) {
+        assertEquals(BitBoardManager.move(boards[k], direction), out[k]);
+        assertEquals(BitBoardManager.scoreFromMove(boards[k], direction), points[k]);
+        assertEquals(BitBoardManager.canMove(boards[k], direction), changed[k]);
+      }
+    }
+  }
+
+  @Test
+  public void test_moveBatchInPlace() {
+    long[] boards = new long[] { BitBoard.pack(boardH1), BitBoard.pack(boardGameOver) };
+    long[] expected = new long[] {
+      BitBoardManager.move(boards[0], DirectionT.RIGHT),
+      BitBoardManager.move(boards[1], DirectionT.RIGHT),
+    };
+    BitBoardManager.move(boards, DirectionT.RIGHT, boards, new int[2], new boolean[2]);
+    assertArrayEquals(expected, boards);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_moveBatchException() {
+    BitBoardManager.move(new long[2], DirectionT.LEFT, new long[2], new int[1], new boolean[2]);
+  }
+
+  @Test
+  public void test_canMoveTrue() {
+    assertTrue(BitBoardManager.canMove(BitBoard.pack(boardH1), DirectionT.UP));
+  }
+
+  @Test
+  public void test_canMoveFalse() {
+    assertFalse(BitBoardManager.canMove(BitBoard.pack(boardGameOver), DirectionT.DOWN));
+  }
+
+  @Test
+  public void test_isGameOverTrue() {
+    assertTrue(BitBoardManager.isGameOver(BitBoard.pack(boardGameOver)));
+  }
+
+  @Test
+  public void test_isGameOverFalse() {
+    assertFalse(BitBoardManager.isGameOver(BitBoard.pack(boardH1)));
+  }
+
+  @Test
+  public void test_addRandomTile() {
+    long board = BitBoard.pack(boardH1);
+    long x = BitBoardManager.addRandomTile(board, new Random(7));
+    long added = x ^ board;
+    assertTrue(
+      BitBoard.countEmpty(x) == BitBoard.countEmpty(board) - 1 &&
+      (added & board) == 0 &&
+      Long.bitCount(added) == 1
+    );
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_addRandomTileException() {
+    BitBoardManager.addRandomTile(BitBoard.pack(boardGameOver), new Random(7));
+  }
+
+  private static BoardT randomBoard(Random rand) {
+    BoardT board = new BoardT();
+    for (int i = 0; i < board.SIZE; i++) {
+      for (int j = 0; j < board.SIZE; j++) {
+        int exponent = rand.nextInt(4) == 0 ? 0 : 1 + rand.nextInt(5);
+        board.setTile(i, j, BitBoard.toValue(exponent));
+      }
+    }
+    return board;
+  }
+}
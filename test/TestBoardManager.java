@@ -9,10 +9,13 @@ package test;
 
 import static org.junit.Assert.*;
 
+import java.util.Random;
+import java.util.SplittableRandom;
 import org.junit.*;
 import src.controller.BoardManager;
 import src.model.BoardT;
 import src.model.DirectionT;
+import src.model.MoveResultT;
 
 public class TestBoardManager {
 
@@ -401,6 +404,130 @@ public class TestBoardManager {
     assertTrue(x.equals(BoardManager.align(boardDiagonal, DirectionT.DOWN)));
   }
 
+  @Test
+  public void test_moveLEFT() {
+    BoardT x = UnitTests.generateBoard(
+      new int[] { 10, 11, 12, 10 },
+      new int[] { 21, 40, 21, 0 },
+      new int[] { 60, 30, 0, 0 },
+      new int[] { 80, 40, 0, 0 }
+    );
+    MoveResultT result = BoardManager.move(boardH2, DirectionT.LEFT);
+    assertTrue(
+      x.equals(result.getBoard()) &&
+      result.getPoints() == 180 &&
+      result.isChanged()
+    );
+  }
+
+  @Test
+  public void test_moveDOWN() {
+    BoardT x = UnitTests.generateBoard(
+      new int[] { 10, 0, 0, 0 },
+      new int[] { 11, 21, 0, 0 },
+      new int[] { 12, 40, 30, 40 },
+      new int[] { 10, 21, 60, 80 }
+    );
+    MoveResultT result = BoardManager.move(boardV2, DirectionT.DOWN);
+    assertTrue(
+      x.equals(result.getBoard()) &&
+      result.getPoints() == 180 &&
+      result.isChanged()
+    );
+  }
+
+  @Test
+  public void test_moveUnchanged() {
+    MoveResultT result = BoardManager.move(boardDiagonal.copy(), DirectionT.LEFT);
+    result = BoardManager.move(result.getBoard(), DirectionT.LEFT);
+    assertTrue(result.getPoints() == 0 && !result.isChanged());
+  }
+
+  @Test
+  public void test_moveMatchesAlignMergeAlign() {
+    Random rand = new Random(2048);
+    for (int n = 0; n < 500; n++) {
+      BoardT board = new BoardT();
+      for (int i = 0; i < board.SIZE; i++) {
+        for (int j = 0; j < board.SIZE; j++) {
+          board.setTile(i, j, rand.nextInt(3) == 0 ? 0 : 1 + rand.nextInt(4));
+        }
+      }
+      for (DirectionT direction : DirectionT.values()) {
+        BoardT aligned = BoardManager.align(board, direction);
+        BoardT expected = BoardManager.align(
+          BoardManager.merge(aligned, direction),
+          direction
+        );
+        MoveResultT result = BoardManager.move(board, direction);
+        assertTrue(expected.equals(result.getBoard()));
+        assertEquals(
+          BoardManager.scoreFromMerge(aligned, direction),
+          result.getPoints()
+        );
+        assertEquals(!board.equals(expected), result.isChanged());
+      }
+    }
+  }
+
+  @Test
+  public void test_mergeInPlace() {
+    BoardT expected = BoardManager.merge(boardH2, DirectionT.RIGHT);
+    BoardManager.merge(boardH2, DirectionT.RIGHT, boardH2);
+    assertTrue(expected.equals(boardH2));
+  }
+
+  @Test
+  public void test_alignInPlace() {
+    BoardT expected = BoardManager.align(boardV2, DirectionT.DOWN);
+    BoardManager.align(boardV2, DirectionT.DOWN, boardV2);
+    assertTrue(expected.equals(boardV2));
+  }
+
+  @Test
+  public void test_moveInPlace() {
+    MoveResultT expected = BoardManager.move(boardV1, DirectionT.UP);
+    int points = BoardManager.move(boardV1, DirectionT.UP, boardV1);
+    assertTrue(
+      expected.getBoard().equals(boardV1) && points == expected.getPoints()
+    );
+  }
+
+  @Test
+  public void test_moveInPlaceUnchanged() {
+    BoardT x = BoardManager.align(boardDiagonal, DirectionT.RIGHT);
+    assertEquals(
+      BoardManager.UNCHANGED,
+      BoardManager.move(x, DirectionT.RIGHT, x)
+    );
+  }
+
+  @Test
+  public void test_addRandomTileInPlace() {
+    BoardT x = boardH1.copy();
+    BoardManager.addRandomTile(x, new Random(4), x);
+    int[][] differences = UnitTests.getDifferences(boardH1, x);
+    int[] tile = differences[0];
+    assertTrue(
+      differences.length == 1 &&
+      (x.getTile(tile[0], tile[1]) == 2 || x.getTile(tile[0], tile[1]) == 4)
+    );
+  }
+
+  @Test
+  public void test_addRandomTileSeeded() {
+    BoardT x = new BoardT();
+    BoardT y = new BoardT();
+    SplittableRandom randX = new SplittableRandom(2048);
+    SplittableRandom randY = new SplittableRandom(2048);
+    for (int k = 0; k < 16; k++) {
+      BoardManager.addRandomTile(x, randX, x);
+      BoardManager.addRandomTile(y, randY, y);
+      assertTrue(x.equals(y));
+    }
+    assertTrue(x.isFull());
+  }
+
   @Test
   public void test_addRandomTile1() {
     BoardT x = BoardManager.addRandomTile(boardH1);
@@ -0,0 +1,181 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the BoardSymmetry module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.controller.BitBoardManager;
+import src.controller.BoardManager;
+import src.model.BitBoard;
+import src.model.BoardSymmetry;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestBoardSymmetry {
+
+  private BoardT board1;
+
+  @Before
+  public void setUp() {
+    board1 =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 0, 0 },
+        new int[] { 0, 8, 0, 0 },
+        new int[] { 0, 0, 0, 16 },
+        new int[] { 0, 0, 0, 2 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    board1 = null;
+  }
+
+  private static BoardT randomBoard(int size, Random rand) {
+    BoardT board = new BoardT(size);
+    for (int j = 0; j < size; j++) {
+      for (int i = 0; i < size; i++) {
+        int exponent = rand.nextInt(6);
+        board.setTile(i, j, exponent == 0 ? 0 : 1 << exponent);
+      }
+    }
+    return board;
+  }
+
+  @Test
+  public void test_transformReflectHorizontally() {
+    BoardT x = BoardSymmetry.transform(board1, 1);
+    assertTrue(x.getTile(3, 0) == 2 && x.getTile(2, 0) == 4 && x.getTile(0, 3) == 2);
+  }
+
+  @Test
+  public void test_transformTranspose() {
+    BoardT x = BoardSymmetry.transform(board1, 4);
+    assertTrue(x.getTile(0, 1) == 4 && x.getTile(2, 3) == 16 && x.getTile(3, 3) == 2);
+  }
+
+  @Test
+  public void test_transformIdentity() {
+    assertTrue(BoardSymmetry.transform(board1, 0).equals(board1));
+  }
+
+  @Test
+  public void test_transformDistinct() {
+    long packed = BitBoard.pack(board1);
+    boolean output = true;
+    for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+      for (int t = s + 1; t < BoardSymmetry.COUNT; t++) {
+        output = output && BoardSymmetry.transform(packed, s) != BoardSymmetry.transform(packed, t);
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_transformPackedMatchesBoardT() {
+    Random rand = new Random(1);
+    boolean output = true;
+    for (int n = 0; n < 200; n++) {
+      BoardT board = randomBoard(4, rand);
+      for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+        output = output &&
+          BitBoard.pack(BoardSymmetry.transform(board, s)) ==
+            BoardSymmetry.transform(BitBoard.pack(board), s);
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_inverse() {
+    boolean output = true;
+    for (int size = BoardT.MIN_SIZE; size <= BoardT.MAX_SIZE; size++) {
+      BoardT board = randomBoard(size, new Random(size));
+      for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+        BoardT x = BoardSymmetry.transform(board, s);
+        output = output && BoardSymmetry.transform(x, BoardSymmetry.inverse(s)).equals(board);
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_transformDirection() {
+    Random rand = new Random(2);
+    boolean output = true;
+    for (int size = BoardT.MIN_SIZE; size <= BoardT.MAX_SIZE; size++) {
+      BoardT board = randomBoard(size, rand);
+      for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+        BoardT x = BoardSymmetry.transform(board, s);
+        for (DirectionT direction : DirectionT.values()) {
+          BoardT expected = BoardSymmetry.transform(BoardManager.move(board, direction).getBoard(), s);
+          BoardT result = BoardManager.move(x, BoardSymmetry.transform(direction, s)).getBoard();
+          output = output && expected.equals(result);
+        }
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_canonicalMoveMapsBack() {
+    long packed = BitBoard.pack(board1);
+    int s = BoardSymmetry.canonicalSymmetry(packed);
+    long canonical = BoardSymmetry.canonical(packed);
+    boolean output = true;
+    for (DirectionT direction : DirectionT.values()) {
+      DirectionT original = BoardSymmetry.transform(direction, BoardSymmetry.inverse(s));
+      output = output &&
+        BoardSymmetry.transform(BitBoardManager.move(packed, original), s) ==
+          BitBoardManager.move(canonical, direction);
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_canonicalPacked() {
+    Random rand = new Random(3);
+    boolean output = true;
+    for (int n = 0; n < 200; n++) {
+      long packed = BitBoard.pack(randomBoard(4, rand));
+      long canonical = BoardSymmetry.canonical(packed);
+      output = output && BoardSymmetry.transform(packed, BoardSymmetry.canonicalSymmetry(packed)) == canonical;
+      for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+        long x = BoardSymmetry.transform(packed, s);
+        output = output && BoardSymmetry.canonical(x) == canonical;
+        output = output && Long.compareUnsigned(canonical, x) <= 0;
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_canonicalBoardT() {
+    Random rand = new Random(4);
+    boolean output = true;
+    for (int size = BoardT.MIN_SIZE; size <= BoardT.MAX_SIZE; size++) {
+      BoardT board = randomBoard(size, rand);
+      BoardT canonical = BoardSymmetry.canonical(board);
+      for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+        output = output && BoardSymmetry.canonical(BoardSymmetry.transform(board, s)).equals(canonical);
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_canonicalSymmetricBoard() {
+    BoardT board = new BoardT();
+    board.setTile(2, 1, 2);
+    board.setTile(1, 2, 2);
+    // symmetries 0, 3, 4 and 7 all give the canonical board
+    assertTrue(BoardSymmetry.canonicalSymmetry(board) == 0);
+  }
+}
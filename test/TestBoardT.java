@@ -124,6 +124,56 @@ public class TestBoardT {
     assertFalse(board2.isFull());
   }
 
+  @Test
+  public void test_emptyMask() {
+    long mask = board2.emptyMask();
+    assertEquals(8, Long.bitCount(mask));
+    for (int i = 0; i < board2.SIZE; i++) {
+      for (int j = 0; j < board2.SIZE; j++) {
+        boolean set = (mask & (1L << (j * board2.SIZE + i))) != 0;
+        assertEquals(board2.isTileEmpty(i, j), set);
+      }
+    }
+  }
+
+  @Test
+  public void test_emptyMaskFull() {
+    assertEquals(0, board3.emptyMask());
+  }
+
+  @Test
+  public void test_size() {
+    assertTrue(new BoardT().SIZE == 4 && new BoardT(3).SIZE == 3 && new BoardT(8).SIZE == 8);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_sizeTooSmall() {
+    new BoardT(2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_sizeTooLarge() {
+    new BoardT(9);
+  }
+
+  @Test
+  public void test_emptyMaskLargest() {
+    assertEquals(-1L, new BoardT(8).emptyMask());
+  }
+
+  @Test
+  public void test_equalsDifferentSize() {
+    assertFalse(new BoardT(5).equals(new BoardT(6)));
+  }
+
+  @Test
+  public void test_copySize() {
+    BoardT x = new BoardT(7);
+    x.setTile(6, 6, 2);
+    BoardT y = x.copy();
+    assertTrue(y.SIZE == 7 && y.equals(x));
+  }
+
   @Test
   public void test_equalsTrue() {
     BoardT x = UnitTests.generateBoard(
@@ -152,5 +202,10 @@ public class TestBoardT {
     x.setTile(0, 0, 2048);
     assertFalse(board2.equals(x));
   }
-  
+
+  @Test
+  public void test_copyTo() {
+    board1.copyTo(board4);
+    assertTrue(board1.equals(board4));
+  }
 }
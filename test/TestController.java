@@ -10,6 +10,7 @@ package test;
 import static org.junit.Assert.*;
 
 import org.junit.*;
+import src.controller.BoardManager;
 import src.controller.Controller;
 import src.model.BoardT;
 import src.model.DirectionT;
@@ -291,6 +292,28 @@ public class TestController {
     assertFalse(Controller.isGameOver());
   }
 
+  @Test
+  public void test_legalMovesGameOver() {
+    Controller.resumeGame(boardGameOver, 0, 0);
+    assertEquals(0, Controller.legalMoves());
+  }
+
+  @Test
+  public void test_legalMovesChangeBoard() {
+    Controller.resumeGame(boardH1, 0, 0);
+    for (DirectionT direction : DirectionT.values()) {
+      boolean legal = (Controller.legalMoves() & 1 << direction.ordinal()) != 0;
+      assertEquals(!BoardManager.move(boardH1, direction).getBoard().equals(boardH1), legal);
+    }
+  }
+
+  @Test
+  public void test_maxTile() {
+    boardFull.setTile(0, 0, 2048);
+    Controller.resumeGame(boardFull, 1000, 1000);
+    assertEquals(2048, Controller.maxTile());
+  }
+
   @Test
   public void test_nextTileToGet2048() {
     Controller.newGame();
@@ -0,0 +1,164 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the EvaluationCache module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.*;
+import src.ai.EvaluationCache;
+import src.ai.ExpectimaxAgent;
+import src.ai.TranspositionTable;
+import src.model.BitBoard;
+import src.model.DirectionT;
+
+public class TestEvaluationCache {
+
+  private EvaluationCache cache;
+
+  @Before
+  public void setUp() {
+    // a single bucket, so every board competes for the same entries
+    cache = new EvaluationCache(3);
+  }
+
+  @After
+  public void tearDown() {
+    cache = null;
+  }
+
+  @Test
+  public void test_putGet() {
+    cache.put(0L, 42L);
+    assertTrue(cache.get(0L, -1L) == 42L && cache.get(1L, -1L) == -1L);
+  }
+
+  @Test
+  public void test_putReplaces() {
+    cache.put(7L, 1L);
+    cache.put(7L, 2L);
+    assertEquals(2L, cache.get(7L, -1L));
+  }
+
+  @Test
+  public void test_putGetFloat() {
+    cache.putFloat(7L, -2.5f);
+    assertTrue(cache.getFloat(7L) == -2.5f && Float.isNaN(cache.getFloat(8L)));
+  }
+
+  @Test
+  public void test_counters() {
+    cache.put(1L, 1L);
+    cache.get(1L, 0L);
+    cache.get(1L, 0L);
+    cache.get(2L, 0L);
+    assertTrue(cache.getHits() == 2 && cache.getMisses() == 1 && cache.getEvictions() == 0);
+  }
+
+  @Test
+  public void test_clockKeepsReferenced() {
+    for (long board = 0; board < EvaluationCache.WAYS; board++) {
+      cache.put(board, board);
+    }
+    // boards 0 to 3 are read, so the hand passes them and evicts board 4
+    for (long board = 0; board < 4; board++) {
+      cache.get(board, -1L);
+    }
+    cache.put(100L, 100L);
+    boolean output = cache.getEvictions() == 1 && cache.get(4L, -1L) == -1L && cache.get(100L, -1L) == 100L;
+    for (long board = 0; board < 4; board++) {
+      output = output && cache.get(board, -1L) == board;
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_clockSecondChance() {
+    for (long board = 0; board < EvaluationCache.WAYS; board++) {
+      cache.put(board, board);
+      cache.get(board, -1L);
+    }
+    // every board was read, so each gets a second chance and board 0 is evicted
+    cache.put(100L, 100L);
+    assertTrue(cache.get(0L, -1L) == -1L && cache.get(1L, -1L) == 1L);
+  }
+
+  @Test
+  public void test_clear() {
+    cache.put(1L, 1L);
+    cache.clear();
+    assertEquals(-1L, cache.get(1L, -1L));
+  }
+
+  @Test
+  public void test_capacity() {
+    assertEquals(1 << 12, new EvaluationCache(12).capacity());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_bitsException() {
+    new EvaluationCache(2);
+  }
+
+  @Test
+  public void test_concurrent() throws InterruptedException {
+    EvaluationCache shared = new EvaluationCache(10);
+    AtomicBoolean consistent = new AtomicBoolean(true);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (long n = 0; n < 100000; n++) {
+          long board = (n * 0x9E3779B97F4A7C15L) & 0xFFFFL;
+          shared.put(board, board * 3);
+          long value = shared.get(board ^ 1, -1L);
+          if (value != -1L && value != (board ^ 1) * 3) {
+            consistent.set(false);
+          }
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(consistent.get() && shared.getHits() + shared.getMisses() == 400000);
+  }
+
+  @Test
+  public void test_agentCache() {
+    EvaluationCache results = new EvaluationCache(10);
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 1, 2, 4);
+    ExpectimaxAgent agent = new ExpectimaxAgent(2, 1000000, 10);
+    agent.setCache(results);
+    DirectionT first = agent.bestMove(board);
+    ExpectimaxAgent other = new ExpectimaxAgent(2, 1000000, 10);
+    other.setCache(results);
+    assertTrue(other.bestMove(board) == first && other.getNodes() == 0 && results.getHits() == 1);
+  }
+
+  @Test
+  public void test_agentCacheNodeBudget() {
+    EvaluationCache results = new EvaluationCache(10);
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 1, 2, 4);
+    ExpectimaxAgent agent = new ExpectimaxAgent(6, 20000, 10);
+    agent.setCache(results);
+    agent.bestMove(board);
+    assertEquals(TranspositionTable.MISS, results.get(board, TranspositionTable.MISS));
+  }
+
+  @Test
+  public void test_agentCacheProbabilityCutoff() {
+    EvaluationCache results = new EvaluationCache(10);
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 1, 2, 4);
+    ExpectimaxAgent agent = new ExpectimaxAgent(3, Long.MAX_VALUE, 10);
+    agent.setProbabilityCutoff(0.5f);
+    agent.setCache(results);
+    agent.bestMove(board);
+    assertEquals(TranspositionTable.MISS, results.get(board, TranspositionTable.MISS));
+  }
+}
@@ -0,0 +1,238 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the ExpectimaxAgent module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.ai.ExpectimaxAgent;
+import src.ai.TranspositionTable;
+import src.controller.BitBoardManager;
+import src.controller.GameSession;
+import src.controller.SimulationRunner;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestExpectimaxAgent {
+
+  private BoardT boardOnlyUp, boardGameOver;
+
+  @Before
+  public void setUp() {
+    boardOnlyUp =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 2, 8, 16, 4 }
+      );
+    boardGameOver =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    boardOnlyUp = null;
+    boardGameOver = null;
+  }
+
+  @Test
+  public void test_chooseMoveOnlyVertical() {
+    ExpectimaxAgent agent = new ExpectimaxAgent(3, 1000000, 16);
+    DirectionT move = agent.chooseMove(boardOnlyUp, null);
+    assertTrue(move == DirectionT.UP || move == DirectionT.DOWN);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_bestMoveException() {
+    new ExpectimaxAgent(2, 1000, 10).bestMove(BitBoard.pack(boardGameOver));
+  }
+
+  @Test
+  public void test_nodeBudget() {
+    ExpectimaxAgent agent = new ExpectimaxAgent(6, 500, 10);
+    agent.bestMove(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2));
+    assertTrue(agent.getNodes() < 1000);
+  }
+
+  @Test
+  public void test_nodeBudgetCompletedDepth() {
+    // the move of a search cut short is that of the last depth that searched
+    // every move
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 2, 1, 4);
+    ExpectimaxAgent agent = new ExpectimaxAgent(6, 20000, 10);
+    DirectionT move = agent.bestMove(board);
+    int depth = agent.getLastDepth();
+    ExpectimaxAgent full = new ExpectimaxAgent(depth, Long.MAX_VALUE, 10);
+    assertTrue(depth >= 1 && depth < 6 && full.bestMove(board) == move);
+  }
+
+  @Test
+  public void test_playGame() {
+    GameSession session = new GameSession(2048);
+    SimulationRunner.playGame(
+      session,
+      new ExpectimaxAgent(3, 1000000, 16),
+      new Random(0)
+    );
+    assertTrue(session.maxTile() >= 1024);
+  }
+
+  @Test
+  public void test_tableProbe() {
+    TranspositionTable table = new TranspositionTable(4);
+    table.store(0x1234L, 2.5f, 3, DirectionT.DOWN);
+    long entry = table.probe(0x1234L);
+    assertTrue(
+      TranspositionTable.valueOf(entry) == 2.5f &&
+      TranspositionTable.depthOf(entry) == 3 &&
+      TranspositionTable.moveOf(entry) == DirectionT.DOWN
+    );
+  }
+
+  @Test
+  public void test_tableMiss() {
+    TranspositionTable table = new TranspositionTable(4);
+    table.store(0x1234L, 2.5f, 3, null);
+    assertEquals(TranspositionTable.MISS, table.probe(0x4321L));
+  }
+
+  @Test
+  public void test_timeBudget() {
+    ExpectimaxAgent agent = new ExpectimaxAgent(20, Long.MAX_VALUE, 16);
+    agent.setTimeBudget(50);
+    long start = System.nanoTime();
+    DirectionT move = agent.chooseMove(boardOnlyUp, null);
+    long millis = (System.nanoTime() - start) / 1000000;
+    assertTrue(
+      (move == DirectionT.UP || move == DirectionT.DOWN) &&
+      agent.getLastDepth() >= 1 &&
+      agent.getLastDepth() < 20 &&
+      millis < 1000
+    );
+  }
+
+  @Test
+  public void test_timeBudgetCompletes() {
+    ExpectimaxAgent agent = new ExpectimaxAgent(2, Long.MAX_VALUE, 16);
+    agent.setTimeBudget(10000);
+    agent.bestMove(BitBoard.pack(boardOnlyUp));
+    assertEquals(2, agent.getLastDepth());
+  }
+
+  @Test
+  public void test_probabilityCutoff() {
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 3, 3, 4);
+    ExpectimaxAgent full = new ExpectimaxAgent(4, Long.MAX_VALUE, 16);
+    full.bestMove(board);
+    ExpectimaxAgent cut = new ExpectimaxAgent(4, Long.MAX_VALUE, 16);
+    cut.setProbabilityCutoff(0.01f);
+    cut.bestMove(board);
+    assertTrue(cut.getNodes() < full.getNodes());
+  }
+
+  @Test
+  public void test_probabilityCutoffNotStored() {
+    // every line more than one move below the root is cut off, so no value
+    // deeper than 2 is a full search
+    long board = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 3, 3, 4);
+    TranspositionTable table = new TranspositionTable(16);
+    ExpectimaxAgent cut = new ExpectimaxAgent(4, Long.MAX_VALUE, table);
+    cut.setProbabilityCutoff(0.5f);
+    cut.bestMove(board);
+    boolean output = true;
+    for (DirectionT direction : DirectionT.values()) {
+      long after = BitBoardManager.move(board, direction);
+      long entry = table.probe(after);
+      output = output && (entry == TranspositionTable.MISS || TranspositionTable.depthOf(entry) <= 2);
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_searchDepth() {
+    long sparse = BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2);
+    long dense = BitBoard.pack(boardOnlyUp);
+    assertTrue(
+      ExpectimaxAgent.searchDepth(sparse, 8) == 2 &&
+      ExpectimaxAgent.searchDepth(dense, 8) == 2 &&
+      ExpectimaxAgent.searchDepth(dense, 1) == 1 &&
+      ExpectimaxAgent.searchDepth(BitBoard.pack(boardGameOver), 8) == 2
+    );
+  }
+
+  @Test
+  public void test_searchDepthDistinct() {
+    // 8 distinct tiles and 3 empty tiles
+    long board = BitBoard.pack(
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 32, 64, 128, 256 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 2, 0, 0, 0 }
+      )
+    );
+    assertTrue(ExpectimaxAgent.searchDepth(board, 8) == 6 && ExpectimaxAgent.searchDepth(board, 5) == 5);
+  }
+
+  @Test
+  public void test_searchDepthEmpty() {
+    // 7 distinct tiles with 5 and 6 empty tiles
+    long five = BitBoard.pack(
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 32, 64, 128, 2 },
+        new int[] { 2, 2, 2, 0 },
+        new int[] { 0, 0, 0, 0 }
+      )
+    );
+    long six = BitBoard.setTile(five, 2, 2, 0);
+    assertTrue(ExpectimaxAgent.searchDepth(five, 8) == 5 && ExpectimaxAgent.searchDepth(six, 8) == 4);
+  }
+
+  @Test
+  public void test_adaptiveDepthDeeper() {
+    long board = BitBoard.pack(
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 32, 64, 128, 2 },
+        new int[] { 2, 2, 0, 0 },
+        new int[] { 0, 0, 0, 0 }
+      )
+    );
+    ExpectimaxAgent agent = new ExpectimaxAgent(8, Long.MAX_VALUE, 16);
+    agent.setAdaptiveDepth(true);
+    agent.bestMove(board);
+    assertEquals(4, agent.getLastDepth());
+  }
+
+  @Test
+  public void test_adaptiveDepth() {
+    ExpectimaxAgent agent = new ExpectimaxAgent(8, Long.MAX_VALUE, 16);
+    agent.setAdaptiveDepth(true);
+    agent.bestMove(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2));
+    assertEquals(2, agent.getLastDepth());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_timeBudgetException() {
+    new ExpectimaxAgent(2, 1000, 10).setTimeBudget(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_probabilityCutoffException() {
+    new ExpectimaxAgent(2, 1000, 10).setProbabilityCutoff(1);
+  }
+}
@@ -0,0 +1,237 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the GameSession module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+import org.junit.*;
+import src.controller.BoardManager;
+import src.controller.Controller;
+import src.controller.GameSession;
+import src.model.BoardT;
+import src.model.DirectionT;
+import src.model.ScoreT;
+
+public class TestGameSession {
+
+  private BoardT boardCheckered, boardGameOver;
+
+  @Before
+  public void setUp() {
+    Controller.newGame();
+    ScoreT.initialize(0, 0);
+
+    boardCheckered =
+      UnitTests.generateBoard(
+        new int[] { 1, 0, 1, 0 },
+        new int[] { 0, 1, 0, 1 },
+        new int[] { 1, 0, 1, 0 },
+        new int[] { 0, 1, 0, 1 }
+      );
+    boardGameOver =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 6, 8 },
+        new int[] { 3, 5, 7, 9 },
+        new int[] { 2, 4, 6, 8 },
+        new int[] { 3, 5, 7, 9 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    Controller.newGame();
+    ScoreT.initialize(0, 0);
+    boardCheckered = null;
+    boardGameOver = null;
+  }
+
+  @Test
+  public void test_newGame() {
+    GameSession session = new GameSession();
+    session.newGame();
+    assertEquals(14, countEmpty(session.getBoard()));
+  }
+
+  @Test
+  public void test_moveIndependentOfController() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardCheckered, 0, 0);
+    session.move(DirectionT.LEFT);
+    assertTrue(
+      session.getScore() == 8 &&
+      session.getHighScore() == 8 &&
+      ScoreT.getScore() == 0
+    );
+  }
+
+  @Test
+  public void test_sessionsIndependent() {
+    GameSession session1 = new GameSession();
+    GameSession session2 = new GameSession();
+    session1.resumeGame(boardCheckered, 10, 20);
+    session2.resumeGame(boardGameOver, 30, 40);
+    session1.move(DirectionT.UP);
+    assertTrue(
+      session1.getScore() == 18 &&
+      session2.getScore() == 30 &&
+      session2.getBoard().equals(boardGameOver)
+    );
+  }
+
+  @Test
+  public void test_seededSessionsReproducible() {
+    GameSession session1 = new GameSession(2048);
+    GameSession session2 = new GameSession(2048);
+    session1.newGame();
+    session2.newGame();
+    DirectionT[] directions = DirectionT.values();
+    for (int n = 0; n < 200 && !session1.isGameOver(); n++) {
+      session1.move(directions[n % 4]);
+      session2.move(directions[n % 4]);
+    }
+    assertTrue(
+      session1.getBoard().equals(session2.getBoard()) &&
+      session1.getScore() == session2.getScore()
+    );
+  }
+
+  @Test
+  public void test_isGameOverTrue() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardGameOver, 0, 0);
+    assertTrue(session.isGameOver());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_moveException() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardGameOver, 0, 0);
+    session.move(DirectionT.LEFT);
+  }
+
+  @Test
+  public void test_maxTile() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardGameOver, 0, 0);
+    assertEquals(9, session.maxTile());
+  }
+
+  @Test
+  public void test_legalMovesAll() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardCheckered, 0, 0);
+    assertEquals(0xF, session.legalMoves());
+  }
+
+  @Test
+  public void test_legalMovesGameOver() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardGameOver, 0, 0);
+    assertEquals(0, session.legalMoves());
+  }
+
+  @Test
+  public void test_cachedStateAfterResume() {
+    GameSession session = new GameSession();
+    session.resumeGame(boardGameOver, 0, 0);
+    assertTrue(session.isGameOver());
+    session.resumeGame(boardCheckered, 0, 0);
+    assertTrue(!session.isGameOver() && session.maxTile() == 1);
+  }
+
+  @Test
+  public void test_cachedStateAfterMove() {
+    GameSession session = new GameSession(2048);
+    session.resumeGame(boardCheckered, 0, 0);
+    assertEquals(1, session.maxTile());
+    session.move(DirectionT.LEFT);
+    assertTrue(session.maxTile() >= 2 && session.legalMoves() != 0);
+  }
+
+  @Test
+  public void test_newGameSize() {
+    GameSession session = new GameSession(6, 1);
+    session.newGame();
+    BoardT board = session.getBoard();
+    assertTrue(board.SIZE == 6 && Long.bitCount(board.emptyMask()) == 34);
+    session.newGame(3);
+    assertEquals(3, session.getBoard().SIZE);
+  }
+
+  @Test
+  public void test_packedMatchesBoardManager3() {
+    assertTrue(playsLikeBoardManager(3, 5));
+  }
+
+  @Test
+  public void test_packedMatchesBoardManager4() {
+    assertTrue(playsLikeBoardManager(4, 6));
+  }
+
+  @Test
+  public void test_genericMatchesBoardManager7() {
+    assertTrue(playsLikeBoardManager(7, 7));
+  }
+
+  @Test
+  public void test_resumeGameSize() {
+    BoardT board = new BoardT(5);
+    board.setTile(0, 0, 2);
+    board.setTile(1, 0, 2);
+    GameSession session = new GameSession();
+    session.resumeGame(board, 0, 0);
+    session.move(DirectionT.LEFT);
+    assertTrue(session.getBoard().SIZE == 5 && session.getScore() == 4 && session.maxTile() == 4);
+  }
+
+  @Test
+  public void test_controllerSession() {
+    Controller.resumeGame(boardCheckered, 0, 0);
+    Controller.move(DirectionT.DOWN);
+    assertEquals(ScoreT.getScore(), Controller.getSession().getScore());
+  }
+
+  // plays the same moves in a session and using BoardManager directly with the
+  // same source of randomness, and checks that the boards and scores agree
+  private static boolean playsLikeBoardManager(int size, long seed) {
+    GameSession session = new GameSession(size, seed);
+    session.newGame();
+    SplittableRandom rand = new SplittableRandom(seed);
+    BoardT board = new BoardT(size);
+    BoardManager.addRandomTile(board, rand, board);
+    BoardManager.addRandomTile(board, rand, board);
+    int score = 0;
+    DirectionT[] directions = DirectionT.values();
+    for (int n = 0; !session.isGameOver(); n++) {
+      DirectionT direction = directions[n % 4];
+      int points = BoardManager.move(board, direction, board);
+      if (points != BoardManager.UNCHANGED) {
+        score += points;
+        BoardManager.addRandomTile(board, rand, board);
+      }
+      session.move(direction);
+      if (!session.getBoard().equals(board) || session.getScore() != score) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int countEmpty(BoardT board) {
+    int count = 0;
+    for (int i = 0; i < board.SIZE; i++) {
+      for (int j = 0; j < board.SIZE; j++) {
+        if (board.isTileEmpty(i, j)) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,131 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the HeuristicEvaluator module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.*;
+import src.ai.HeuristicEvaluator;
+import src.model.BitBoard;
+import src.model.BoardSymmetry;
+import src.model.BoardT;
+
+public class TestHeuristicEvaluator {
+
+  private BoardT board1;
+
+  @Before
+  public void setUp() {
+    board1 =
+      UnitTests.generateBoard(
+        new int[] { 8, 4, 2, 0 },
+        new int[] { 4, 4, 0, 0 },
+        new int[] { 2, 0, 0, 0 },
+        new int[] { 0, 0, 0, 2 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    board1 = null;
+  }
+
+  @Test
+  public void test_terms() {
+    float[] terms = HeuristicEvaluator.terms(BitBoard.pack(board1));
+    // the board is its own transpose, so every term is twice that of the rows:
+    // 9 empty tiles, monotonic rows, 8 4 2 differs by 2 exponents, one merge
+    // and 3 + 2 + 1 + 1 for the largest tiles at an end of their rows
+    assertTrue(Arrays.equals(new float[] { 18, 0, -4, 2, 14 }, terms));
+  }
+
+  @Test
+  public void test_termsEmptyBoard() {
+    assertTrue(Arrays.equals(new float[] { 32, 0, 0, 0, 0 }, HeuristicEvaluator.terms(BitBoard.EMPTY)));
+  }
+
+  @Test
+  public void test_evaluateWeightedSum() {
+    float[] weights = new float[] { 1, 2, 3, 4, 5 };
+    long packed = BitBoard.pack(board1);
+    float[] terms = HeuristicEvaluator.terms(packed);
+    float expected = HeuristicEvaluator.BASE;
+    for (int w = 0; w < HeuristicEvaluator.WEIGHTS; w++) {
+      expected += weights[w] * terms[w];
+    }
+    assertEquals(expected, new HeuristicEvaluator(weights).evaluate(packed), 1e-2f);
+  }
+
+  @Test
+  public void test_evaluateBoardT() {
+    HeuristicEvaluator evaluator = new HeuristicEvaluator();
+    assertEquals(evaluator.evaluate(BitBoard.pack(board1)), evaluator.evaluate(board1), 0f);
+  }
+
+  @Test
+  public void test_evaluateSymmetric() {
+    HeuristicEvaluator evaluator = new HeuristicEvaluator();
+    Random rand = new Random(5);
+    boolean output = true;
+    for (int n = 0; n < 100; n++) {
+      long board = rand.nextLong() & 0x7777777777777777L;
+      for (int s = 0; s < BoardSymmetry.COUNT; s++) {
+        float difference = evaluator.evaluate(BoardSymmetry.transform(board, s)) - evaluator.evaluate(board);
+        output = output && Math.abs(difference) < 0.1f;
+      }
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_evaluateMonotonicBetter() {
+    BoardT scrambled =
+      UnitTests.generateBoard(
+        new int[] { 2, 8, 0, 4 },
+        new int[] { 4, 0, 4, 0 },
+        new int[] { 0, 2, 0, 0 },
+        new int[] { 0, 0, 0, 2 }
+      );
+    HeuristicEvaluator evaluator = new HeuristicEvaluator();
+    assertTrue(evaluator.evaluate(board1) > evaluator.evaluate(scrambled));
+  }
+
+  @Test
+  public void test_evaluateFloor() {
+    // a board in play whose monotonicity penalty exceeds BASE
+    long board = BitBoard.pack(
+      UnitTests.generateBoard(
+        new int[] { 8192, 0, 8192, 0 },
+        new int[] { 8192, 0, 8192, 0 },
+        new int[] { 8192, 0, 8192, 0 },
+        new int[] { 8192, 0, 8192, 0 }
+      )
+    );
+    float[] weights = HeuristicEvaluator.getDefaultWeights();
+    float[] terms = HeuristicEvaluator.terms(board);
+    float sum = HeuristicEvaluator.BASE;
+    for (int w = 0; w < HeuristicEvaluator.WEIGHTS; w++) {
+      sum += weights[w] * terms[w];
+    }
+    assertTrue(sum < 0 && new HeuristicEvaluator().evaluate(board) == HeuristicEvaluator.FLOOR);
+  }
+
+  @Test
+  public void test_getWeightsCopy() {
+    HeuristicEvaluator evaluator = new HeuristicEvaluator();
+    evaluator.getWeights()[0] = -1;
+    assertTrue(Arrays.equals(HeuristicEvaluator.getDefaultWeights(), evaluator.getWeights()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_weightsException() {
+    new HeuristicEvaluator(new float[4]);
+  }
+}
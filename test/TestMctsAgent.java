@@ -0,0 +1,93 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the MctsAgent module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.*;
+import src.ai.MctsAgent;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestMctsAgent {
+
+  private MctsAgent agent;
+  private BoardT boardOnlyVertical, boardGameOver;
+
+  @Before
+  public void setUp() {
+    agent = new MctsAgent(2, 20, 1 << 14, false);
+    boardOnlyVertical =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 2, 8, 16, 4 }
+      );
+    boardGameOver =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 }
+      );
+  }
+
+  @After
+  public void tearDown() {
+    agent.shutdown();
+    agent = null;
+  }
+
+  @Test
+  public void test_chooseMoveLegal() {
+    DirectionT move = agent.chooseMove(boardOnlyVertical, new Random(0));
+    assertTrue(move == DirectionT.UP || move == DirectionT.DOWN);
+  }
+
+  @Test
+  public void test_statistics() {
+    agent.bestMove(BitBoard.setTile(BitBoard.EMPTY, 1, 1, 2), 0);
+    assertTrue(
+      agent.getLastIterations() > 0 &&
+      agent.getLastNodes() > 1 &&
+      agent.getLastIterationsPerSecond() > 0 &&
+      agent.getLastNodesPerSecond() > 0
+    );
+  }
+
+  @Test
+  public void test_greedyRollouts() {
+    MctsAgent greedy = new MctsAgent(1, 10, 1 << 10, true);
+    DirectionT move = greedy.chooseMove(boardOnlyVertical, new Random(1));
+    greedy.shutdown();
+    assertTrue(move == DirectionT.UP || move == DirectionT.DOWN);
+  }
+
+  @Test
+  public void test_sharedExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    MctsAgent first = new MctsAgent(2, 10, 1 << 10, false, executor);
+    MctsAgent second = new MctsAgent(2, 10, 1 << 10, false, executor);
+    first.bestMove(BitBoard.setTile(BitBoard.EMPTY, 1, 1, 2), 0);
+    first.shutdown();
+    DirectionT move = second.chooseMove(boardOnlyVertical, new Random(2));
+    boolean output = !executor.isShutdown() && (move == DirectionT.UP || move == DirectionT.DOWN);
+    executor.shutdown();
+    assertTrue(output);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_bestMoveException() {
+    agent.bestMove(BitBoard.pack(boardGameOver), 0);
+  }
+}
@@ -0,0 +1,93 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the NTupleNetwork, NTupleAgent and TDLearner modules using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.*;
+import src.ai.NTupleAgent;
+import src.ai.NTupleNetwork;
+import src.ai.TDLearner;
+import src.controller.RandomPolicy;
+import src.controller.SimulationRunner;
+import src.model.BitBoard;
+import src.model.BoardT;
+
+public class TestNTupleNetwork {
+
+  private NTupleNetwork network;
+  private long board1;
+
+  @Before
+  public void setUp() {
+    network = new NTupleNetwork();
+    BoardT board = UnitTests.generateBoard(
+      new int[] { 0, 2, 4, 8 },
+      new int[] { 0, 0, 0, 0 },
+      new int[] { 2, 2, 2, 2 },
+      new int[] { 16, 0, 32, 0 }
+    );
+    board1 = BitBoard.pack(board);
+  }
+
+  @After
+  public void tearDown() {
+    network = null;
+  }
+
+  @Test
+  public void test_valueInitial() {
+    assertEquals(0, network.value(board1), 0);
+  }
+
+  @Test
+  public void test_update() {
+    network.update(board1, 0.5f);
+    assertTrue(network.value(board1) >= 0.5f * network.features());
+  }
+
+  @Test
+  public void test_valueSymmetric() {
+    network.update(board1, 1);
+    assertEquals(
+      network.value(board1),
+      network.value(BitBoard.transpose(board1)),
+      1e-4
+    );
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_constructorException() {
+    new NTupleNetwork(new int[][] { { 0, 1, 2 } });
+  }
+
+  @Test
+  public void test_saveLoad() throws IOException {
+    network.update(board1, 0.25f);
+    File file = File.createTempFile("ntuple", ".bin");
+    file.deleteOnExit();
+    network.save(file.toPath());
+    NTupleNetwork loaded = NTupleNetwork.load(file.toPath());
+    assertEquals(network.value(board1), loaded.value(board1), 0);
+  }
+
+  @Test
+  public void test_trainBeatsRandom() {
+    TDLearner learner = new TDLearner(network, 0.1f, new Random(1));
+    learner.train(200);
+    SimulationRunner runner = new SimulationRunner(2);
+    NTupleAgent agent = new NTupleAgent(network);
+    double trained = runner.run(10, 5, () -> agent).getMeanScore();
+    double random = runner.run(10, 5, RandomPolicy::new).getMeanScore();
+    runner.shutdown();
+    assertTrue(trained > 2 * random);
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the ParallelExpectimaxAgent module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.*;
+import src.ai.ExpectimaxAgent;
+import src.ai.HeuristicEvaluator;
+import src.ai.ParallelExpectimaxAgent;
+import src.ai.TranspositionTable;
+import src.controller.GameSession;
+import src.controller.SimulationRunner;
+import src.model.BitBoard;
+import src.model.BoardT;
+import src.model.DirectionT;
+
+public class TestParallelExpectimaxAgent {
+
+  private BoardT boardOnlyUp, boardGameOver;
+  private ParallelExpectimaxAgent agent;
+
+  @Before
+  public void setUp() {
+    boardOnlyUp =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 2, 8, 16, 4 }
+      );
+    boardGameOver =
+      UnitTests.generateBoard(
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 },
+        new int[] { 2, 4, 8, 16 },
+        new int[] { 4, 8, 16, 2 }
+      );
+    agent = new ParallelExpectimaxAgent(4, 3, 16);
+  }
+
+  @After
+  public void tearDown() {
+    agent.shutdown();
+    agent = null;
+    boardOnlyUp = null;
+    boardGameOver = null;
+  }
+
+  @Test
+  public void test_chooseMoveOnlyVertical() {
+    DirectionT move = agent.chooseMove(boardOnlyUp, null);
+    assertTrue(move == DirectionT.UP || move == DirectionT.DOWN);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_bestMoveException() {
+    agent.bestMove(BitBoard.pack(boardGameOver));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_constructorException() {
+    new ParallelExpectimaxAgent(0, 3, 10);
+  }
+
+  @Test
+  public void test_matchesSequential() {
+    // a board whose best move is clear, so the moves agree however the
+    // threads fill the table
+    long board = BitBoard.pack(
+      UnitTests.generateBoard(
+        new int[] { 256, 128, 64, 32 },
+        new int[] { 4, 8, 16, 0 },
+        new int[] { 2, 0, 0, 0 },
+        new int[] { 0, 0, 0, 2 }
+      )
+    );
+    ExpectimaxAgent sequential = new ExpectimaxAgent(4, Long.MAX_VALUE, 16);
+    ParallelExpectimaxAgent parallel = new ParallelExpectimaxAgent(
+      4,
+      4,
+      new TranspositionTable(16),
+      new HeuristicEvaluator()
+    );
+    DirectionT expected = sequential.bestMove(board);
+    DirectionT move = parallel.bestMove(board);
+    parallel.shutdown();
+    assertEquals(expected, move);
+  }
+
+  @Test
+  public void test_nodes() {
+    agent.bestMove(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2));
+    assertTrue(agent.getNodes() > 0 && agent.getNodesPerSecond() > 0);
+  }
+
+  @Test
+  public void test_playGame() {
+    GameSession session = new GameSession(2048);
+    SimulationRunner.playGame(session, agent, new Random(0));
+    assertTrue(session.maxTile() >= 1024);
+  }
+}
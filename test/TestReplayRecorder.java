@@ -0,0 +1,160 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the ReplayRecorder and ReplayReader modules using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import org.junit.*;
+import src.controller.BitBoardManager;
+import src.controller.Controller;
+import src.controller.GameSession;
+import src.controller.RandomPolicy;
+import src.controller.ReplayReader;
+import src.controller.ReplayRecorder;
+import src.controller.SimulationRunner;
+import src.model.BitBoard;
+import src.model.DirectionT;
+
+public class TestReplayRecorder {
+
+  private Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    File file = File.createTempFile("replay", ".bin");
+    file.deleteOnExit();
+    path = file.toPath();
+    Files.delete(path);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Controller.setRecorder(null);
+    Files.deleteIfExists(path);
+    path = null;
+  }
+
+  @Test
+  public void test_replayGame() throws IOException {
+    GameSession session = new GameSession(2048);
+    int moves;
+    try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+      session.setRecorder(recorder);
+      moves = SimulationRunner.playGame(session, new RandomPolicy(), new SplittableRandom(1));
+      session.setRecorder(null);
+    }
+    assertEquals(4 + 21 + moves + 1, Files.size(path));
+
+    ReplayReader reader = new ReplayReader(path);
+    assertTrue(reader.nextGame());
+    assertEquals(2048, reader.getSeed());
+    assertEquals(0, reader.getInitialScore());
+    assertEquals(moves, reader.getTurns());
+    assertEquals(BitBoard.pack(session.getBoard()), reader.getFinalBoard());
+    assertEquals(session.getScore(), reader.getFinalScore());
+    assertFalse(reader.nextGame());
+  }
+
+  @Test
+  public void test_replayTurns() throws IOException {
+    try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+      recorder.beginGame(7, BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 0);
+      recorder.recordTurn(DirectionT.RIGHT, 15, 4);
+      recorder.recordTurn(DirectionT.DOWN, 0, 2);
+    }
+    ReplayReader reader = new ReplayReader(path);
+    assertTrue(reader.nextGame());
+    assertEquals(2, reader.getTurns());
+    assertEquals(DirectionT.RIGHT, reader.getDirection(0));
+    assertEquals(15, reader.getSpawnPosition(0));
+    assertEquals(4, reader.getSpawnValue(0));
+    assertEquals(DirectionT.DOWN, reader.getDirection(1));
+    assertEquals(0, reader.getSpawnPosition(1));
+    assertEquals(2, reader.getSpawnValue(1));
+    long expected = BitBoard.setTile(BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 3, 3, 4);
+    expected = BitBoard.setTile(expected, 3, 2, 2);
+    assertEquals(expected, reader.getFinalBoard());
+  }
+
+  @Test
+  public void test_append() throws IOException {
+    for (int k = 0; k < 3; k++) {
+      try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+        GameSession session = new GameSession(k);
+        session.setRecorder(recorder);
+        SimulationRunner.playGame(session, new RandomPolicy(), new SplittableRandom(k));
+      }
+    }
+    ReplayReader reader = new ReplayReader(path);
+    for (int k = 0; k < 3; k++) {
+      assertTrue(reader.nextGame());
+      assertEquals(k, reader.getSeed());
+      assertTrue(BitBoardManager.isGameOver(reader.getFinalBoard()));
+    }
+    assertFalse(reader.nextGame());
+  }
+
+  @Test
+  public void test_unendedGame() throws IOException {
+    try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+      recorder.beginGame(1, BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 0);
+      recorder.recordTurn(DirectionT.RIGHT, 0, 2);
+      recorder.beginGame(2, BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 4);
+    }
+    ReplayReader reader = new ReplayReader(path);
+    assertTrue(reader.nextGame());
+    assertEquals(1, reader.getTurns());
+    assertTrue(reader.nextGame());
+    assertEquals(2, reader.getSeed());
+    assertEquals(0, reader.getTurns());
+    assertEquals(4, reader.getFinalScore());
+    assertFalse(reader.nextGame());
+  }
+
+  @Test
+  public void test_controllerRecords() throws IOException {
+    try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+      Controller.setRecorder(recorder);
+      Controller.newGame();
+      Controller.move(Controller.canMove(DirectionT.LEFT) ? DirectionT.LEFT : DirectionT.RIGHT);
+      Controller.setRecorder(null);
+    }
+    ReplayReader reader = new ReplayReader(path);
+    assertTrue(reader.nextGame());
+    assertEquals(Controller.getSession().getSeed(), reader.getSeed());
+    assertEquals(1, reader.getTurns());
+    assertEquals(BitBoard.pack(Controller.getBoard()), reader.getFinalBoard());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_corruptTurn() throws IOException {
+    try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+      recorder.beginGame(1, BitBoard.setTile(BitBoard.EMPTY, 0, 0, 2), 0);
+      recorder.recordTurn(DirectionT.LEFT, 1, 2);
+    }
+    new ReplayReader(path).nextGame();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_notReplayLog() throws IOException {
+    Files.write(path, new byte[] { 1, 2, 3, 4, 5 });
+    new ReplayReader(path);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_recordTurnNotRecording() throws IOException {
+    try (ReplayRecorder recorder = new ReplayRecorder(path)) {
+      recorder.recordTurn(DirectionT.LEFT, 0, 2);
+    }
+  }
+}
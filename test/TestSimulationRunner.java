@@ -0,0 +1,104 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the SimulationRunner module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.*;
+import src.controller.GameSession;
+import src.controller.RandomPolicy;
+import src.controller.SimulationRunner;
+import src.model.DirectionT;
+import src.model.SimulationStatsT;
+
+public class TestSimulationRunner {
+
+  private SimulationRunner runner1, runner3;
+
+  @Before
+  public void setUp() {
+    runner1 = new SimulationRunner(1);
+    runner3 = new SimulationRunner(3);
+  }
+
+  @After
+  public void tearDown() {
+    runner1.shutdown();
+    runner3.shutdown();
+    runner1 = null;
+    runner3 = null;
+  }
+
+  @Test
+  public void test_runGames() {
+    SimulationStatsT stats = runner3.run(20, 1, RandomPolicy::new);
+    assertTrue(
+      stats.getGames() == 20 &&
+      stats.getTotalMoves() > 0 &&
+      stats.getMaxTileHistogram().values().stream().mapToInt(x -> x).sum() == 20
+    );
+  }
+
+  @Test
+  public void test_runDeterministicAcrossThreads() {
+    SimulationStatsT stats1 = runner1.run(30, 2048, RandomPolicy::new);
+    SimulationStatsT stats3 = runner3.run(30, 2048, RandomPolicy::new);
+    assertTrue(
+      Arrays.equals(stats1.getScores(), stats3.getScores()) &&
+      Arrays.equals(stats1.getMaxTiles(), stats3.getMaxTiles()) &&
+      Arrays.equals(stats1.getMoves(), stats3.getMoves())
+    );
+  }
+
+  @Test
+  public void test_runIllegalMoveReplaced() {
+    SimulationStatsT stats = runner1.run(5, 3, () -> (board, rand) -> DirectionT.LEFT);
+    assertEquals(5, stats.getGames());
+  }
+
+  @Test
+  public void test_runSizes() {
+    SimulationStatsT stats3 = runner3.run(10, 3, 1, RandomPolicy::new);
+    SimulationStatsT stats6 = runner3.run(10, 6, 1, RandomPolicy::new);
+    assertTrue(stats3.getMeanMoves() < stats6.getMeanMoves());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_runSizeException() {
+    runner1.run(1, 9, 0, RandomPolicy::new);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_runException() {
+    runner1.run(-1, 0, RandomPolicy::new);
+  }
+
+  @Test
+  public void test_playGameOver() {
+    GameSession session = new GameSession(5);
+    SimulationRunner.playGame(session, new RandomPolicy(), new Random(5));
+    assertTrue(session.isGameOver());
+  }
+
+  @Test
+  public void test_scorePercentile() {
+    SimulationStatsT stats = new SimulationStatsT(
+      new int[] { 40, 10, 30, 20 },
+      new int[] { 8, 4, 8, 4 },
+      new int[] { 1, 1, 1, 1 },
+      0
+    );
+    assertTrue(
+      stats.getScorePercentile(50) == 20 &&
+      stats.getScorePercentile(100) == 40 &&
+      stats.getMeanScore() == 25
+    );
+  }
+}
@@ -0,0 +1,221 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the Tablebase module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.*;
+import src.ai.Tablebase;
+import src.controller.BitBoard3Manager;
+import src.controller.BoardManager;
+import src.model.BitBoard;
+import src.model.BitBoard3;
+import src.model.BoardT;
+import src.model.DirectionT;
+import src.model.MoveResultT;
+
+public class TestTablebase {
+
+  private static Path path;
+  private static Tablebase tablebase;
+
+  @BeforeClass
+  public static void setUpClass() throws IOException {
+    File file = File.createTempFile("tablebase", ".bin");
+    file.deleteOnExit();
+    path = file.toPath();
+    // 3x3 boards with a target tile of 16
+    tablebase = Tablebase.generate(3, 4, path);
+  }
+
+  @AfterClass
+  public static void tearDownClass() throws IOException {
+    tablebase = null;
+    Files.deleteIfExists(path);
+    path = null;
+  }
+
+  private static BoardT generateBoard(int[] row0, int[] row1, int[] row2) {
+    BoardT board = new BoardT(3);
+    int[][] rows = new int[][] { row0, row1, row2 };
+    for (int j = 0; j < 3; j++) {
+      for (int i = 0; i < 3; i++) {
+        board.setTile(i, j, rows[j][i]);
+      }
+    }
+    return board;
+  }
+
+  private static boolean hasTile(BoardT board, int value) {
+    for (int j = 0; j < 3; j++) {
+      for (int i = 0; i < 3; i++) {
+        if (board.getTile(i, j) == value) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // the win probability by expectimax over BoardT objects using BoardManager
+  private static double search(BoardT board, Map<Long, Double> memo) {
+    long key = BitBoard3.pack(board);
+    Double cached = memo.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    double best = 0;
+    for (DirectionT direction : DirectionT.values()) {
+      MoveResultT result = BoardManager.move(board, direction);
+      if (!result.isChanged()) {
+        continue;
+      }
+      BoardT after = result.getBoard();
+      if (hasTile(after, 16)) {
+        best = 1;
+        continue;
+      }
+      double value = 0;
+      int empty = 0;
+      for (int j = 0; j < 3; j++) {
+        for (int i = 0; i < 3; i++) {
+          if (after.isTileEmpty(i, j)) {
+            empty++;
+            after.setTile(i, j, 2);
+            value += 0.9 * search(after, memo);
+            after.setTile(i, j, 4);
+            value += 0.1 * search(after, memo);
+            after.setTile(i, j, 0);
+          }
+        }
+      }
+      best = Math.max(best, value / empty);
+    }
+    memo.put(key, best);
+    return best;
+  }
+
+  @Test
+  public void test_generateHeader() {
+    assertTrue(tablebase.SIZE == 3 && tablebase.getTargetExponent() == 4);
+  }
+
+  @Test
+  public void test_winProbabilityGameOver() {
+    BoardT board = generateBoard(
+      new int[] { 2, 4, 2 },
+      new int[] { 4, 2, 4 },
+      new int[] { 2, 4, 2 }
+    );
+    assertEquals(0f, tablebase.winProbability(board), 0f);
+  }
+
+  @Test
+  public void test_winProbabilityMergeToTarget() {
+    BoardT board = generateBoard(
+      new int[] { 8, 8, 2 },
+      new int[] { 4, 2, 4 },
+      new int[] { 2, 4, 2 }
+    );
+    assertTrue(
+      tablebase.winProbability(board) == 1f &&
+      tablebase.bestMove(BitBoard3.pack(board)) == DirectionT.LEFT
+    );
+  }
+
+  @Test
+  public void test_winProbabilityHasTarget() {
+    assertEquals(1f, tablebase.winProbability(BitBoard3.setExponent(BitBoard3.EMPTY, 1, 1, 5)), 0f);
+  }
+
+  @Test
+  public void test_winProbabilityMatchesSearch() {
+    // boards reached by random play from new games, as only those are in the
+    // tablebase
+    Random rand = new Random(16);
+    Map<Long, Double> memo = new HashMap<>();
+    boolean output = true;
+    for (int n = 0; n < 50; n++) {
+      long board = BitBoard3Manager.addRandomTile(BitBoard3Manager.addRandomTile(BitBoard3.EMPTY, rand), rand);
+      for (int turns = rand.nextInt(12); turns > 0 && !BitBoard3Manager.isGameOver(board); turns--) {
+        long after = BitBoard3Manager.move(board, DirectionT.values()[rand.nextInt(4)]);
+        if (after != board && BitBoard3.maxExponent(after) < 4) {
+          board = BitBoard3Manager.addRandomTile(after, rand);
+        }
+      }
+      output = output && Math.abs(tablebase.winProbability(board) - search(BitBoard3.unpack(board), memo)) < 1e-5;
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_positions() {
+    // every board with two tiles is the start of a new game
+    assertTrue(tablebase.getPositions() > 36 * 4);
+  }
+
+  @Test
+  public void test_readFile() throws IOException {
+    Tablebase reader = new Tablebase(path);
+    long board = BitBoard3.pack(
+      generateBoard(new int[] { 2, 0, 0 }, new int[] { 0, 0, 0 }, new int[] { 0, 0, 4 })
+    );
+    assertEquals(tablebase.winProbability(board), reader.winProbability(board), 0f);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_winProbabilityUnreachableException() {
+    // a tile in the middle of a row and column without neighbours cannot be
+    // left by a move
+    tablebase.winProbability(
+      generateBoard(new int[] { 2, 0, 0 }, new int[] { 0, 4, 0 }, new int[] { 0, 0, 2 })
+    );
+  }
+
+  @Test
+  public void test_generate4x4() throws IOException {
+    File file = File.createTempFile("tablebase", ".bin");
+    file.deleteOnExit();
+    Tablebase small = Tablebase.generate(4, 3, file.toPath());
+    long board = BitBoard.setExponent(BitBoard.setExponent(BitBoard.EMPTY, 0, 0, 1), 3, 3, 2);
+    float win = small.winProbability(board);
+    boolean output = small.SIZE == 4 && win > 0 && win <= 1 && win == new Tablebase(file.toPath()).winProbability(board);
+    Files.deleteIfExists(file.toPath());
+    assertTrue(output);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_readException() throws IOException {
+    File file = File.createTempFile("tablebase", ".bin");
+    file.deleteOnExit();
+    Files.write(file.toPath(), new byte[16]);
+    new Tablebase(file.toPath());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_generateSizeException() throws IOException {
+    Tablebase.generate(5, 4, path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_generateTargetException() throws IOException {
+    Tablebase.generate(3, 16, path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_chooseMoveSizeException() {
+    tablebase.chooseMove(new BoardT(), null);
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the TranspositionTable module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.*;
+import src.ai.ReplacementT;
+import src.ai.TranspositionTable;
+import src.model.DirectionT;
+
+public class TestTranspositionTable {
+
+  // finds a board other than 0x1234 that maps to the same entry of a table
+  // with 2^4 entries (and so to the same bucket of a TWO_TIER table)
+  private static long collidingBoard() {
+    TranspositionTable table = new TranspositionTable(4);
+    table.store(0x1234L, 1f, 1, null);
+    long other = 0x1235L;
+    while (true) {
+      table.store(other, 1f, 1, null);
+      if (table.probe(0x1234L) == TranspositionTable.MISS) {
+        return other;
+      }
+      other++;
+    }
+  }
+
+  @Test
+  public void test_probeAlways() {
+    TranspositionTable table = new TranspositionTable(10);
+    table.store(0x1234L, 2.5f, 3, DirectionT.LEFT);
+    long entry = table.probe(0x1234L);
+    assertTrue(
+      TranspositionTable.valueOf(entry) == 2.5f &&
+      TranspositionTable.depthOf(entry) == 3 &&
+      TranspositionTable.moveOf(entry) == DirectionT.LEFT
+    );
+  }
+
+  @Test
+  public void test_alwaysReplaces() {
+    TranspositionTable table = new TranspositionTable(4);
+    long other = collidingBoard();
+    table.store(0x1234L, 1f, 5, null);
+    table.store(other, 2f, 1, null);
+    assertTrue(table.probe(0x1234L) == TranspositionTable.MISS && table.probe(other) != TranspositionTable.MISS);
+  }
+
+  @Test
+  public void test_depthPreferredKeepsDeeper() {
+    TranspositionTable table = new TranspositionTable(4, ReplacementT.DEPTH_PREFERRED);
+    long other = collidingBoard();
+    table.store(0x1234L, 1f, 5, null);
+    table.store(other, 2f, 1, null);
+    assertTrue(table.probe(0x1234L) != TranspositionTable.MISS && table.probe(other) == TranspositionTable.MISS);
+  }
+
+  @Test
+  public void test_depthPreferredUpdatesSameBoard() {
+    TranspositionTable table = new TranspositionTable(4, ReplacementT.DEPTH_PREFERRED);
+    table.store(0x1234L, 1f, 5, null);
+    table.store(0x1234L, 2f, 1, null);
+    assertTrue(TranspositionTable.valueOf(table.probe(0x1234L)) == 2f);
+  }
+
+  @Test
+  public void test_twoTierKeepsBoth() {
+    TranspositionTable table = new TranspositionTable(4, ReplacementT.TWO_TIER);
+    long other = collidingBoard();
+    table.store(0x1234L, 1f, 5, null);
+    table.store(other, 2f, 1, null);
+    assertTrue(
+      TranspositionTable.valueOf(table.probe(0x1234L)) == 1f &&
+      TranspositionTable.valueOf(table.probe(other)) == 2f
+    );
+  }
+
+  @Test
+  public void test_twoTierDemotesReplacedEntry() {
+    TranspositionTable table = new TranspositionTable(4, ReplacementT.TWO_TIER);
+    long other = collidingBoard();
+    table.store(0x1234L, 1f, 1, null);
+    table.store(other, 2f, 5, null);
+    assertTrue(
+      TranspositionTable.valueOf(table.probe(0x1234L)) == 1f &&
+      TranspositionTable.depthOf(table.probe(other)) == 5
+    );
+  }
+
+  @Test
+  public void test_clear() {
+    TranspositionTable table = new TranspositionTable(4, ReplacementT.TWO_TIER);
+    table.store(0x1234L, 1f, 1, null);
+    table.clear();
+    assertEquals(TranspositionTable.MISS, table.probe(0x1234L));
+  }
+
+  @Test
+  public void test_capacity() {
+    assertEquals(1L << 20, new TranspositionTable(20).capacity());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_bitsException() {
+    new TranspositionTable(31);
+  }
+
+  @Test
+  public void test_concurrentEntriesConsistent() throws InterruptedException {
+    // every thread stores the same value for a board, derived from the board,
+    // so a probe must either miss or return that value
+    TranspositionTable table = new TranspositionTable(8, ReplacementT.TWO_TIER);
+    AtomicBoolean consistent = new AtomicBoolean(true);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      long seed = t;
+      threads[t] = new Thread(() -> {
+        for (long n = 0; n < 200000; n++) {
+          long board = (n * 0x9E3779B97F4A7C15L + seed) & 0xFFFFFL;
+          table.store(board, (float) (board & 0xFFFF), (int) (board & 0xFF), null);
+          long other = board ^ 1;
+          long entry = table.probe(other);
+          if (
+            entry != TranspositionTable.MISS &&
+            TranspositionTable.valueOf(entry) != (float) (other & 0xFFFF)
+          ) {
+            consistent.set(false);
+          }
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(consistent.get());
+  }
+}
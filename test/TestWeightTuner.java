@@ -0,0 +1,139 @@
+/**
+ * Author: Saruggan Thiruchelvan (thirus6)
+ * Revised: October 18, 2026
+ *
+ * Description: Unit test for the WeightTuner module using JUnit
+ */
+
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.*;
+import src.ai.HeuristicEvaluator;
+import src.ai.WeightTuner;
+
+public class TestWeightTuner {
+
+  private WeightTuner tuner;
+
+  @Before
+  public void setUp() {
+    tuner = new WeightTuner(HeuristicEvaluator.getDefaultWeights(), 0.3, 8, 2048, 2);
+  }
+
+  @After
+  public void tearDown() {
+    tuner.shutdown();
+    tuner = null;
+  }
+
+  @Test
+  public void test_sameSample() {
+    float[][] first = tuner.sample();
+    assertTrue(Arrays.deepEquals(first, tuner.sample()) && first.length == 8);
+  }
+
+  @Test
+  public void test_commonSeeds() {
+    float[] weights = HeuristicEvaluator.getDefaultWeights();
+    double[] fitness = tuner.evaluate(new float[][] { weights, weights.clone() }, 20);
+    assertTrue(fitness[0] == fitness[1] && fitness[0] > 0);
+  }
+
+  @Test
+  public void test_playGame() {
+    HeuristicEvaluator evaluator = new HeuristicEvaluator();
+    int score = WeightTuner.playGame(evaluator, 7);
+    assertTrue(score > 0 && score == WeightTuner.playGame(evaluator, 7));
+  }
+
+  @Test
+  public void test_minimizeQuadratic() {
+    // the distance to the target weights, with terms of different scales
+    float[] target = new float[] { 3, -2, 0.5f, 10, 1 };
+    WeightTuner quadratic = new WeightTuner(new float[] { 1, 1, 1, 1, 1 }, 0.5, 8, 1, 1);
+    for (int g = 0; g < 300; g++) {
+      float[][] candidates = quadratic.sample();
+      double[] fitness = new double[candidates.length];
+      for (int k = 0; k < candidates.length; k++) {
+        for (int i = 0; i < target.length; i++) {
+          double difference = (candidates[k][i] - target[i]) * (i + 1);
+          fitness[k] -= difference * difference;
+        }
+      }
+      quadratic.update(fitness);
+    }
+    float[] weights = quadratic.getWeights();
+    quadratic.shutdown();
+    boolean output = quadratic.getGeneration() == 300;
+    for (int i = 0; i < target.length; i++) {
+      output = output && Math.abs(weights[i] - target[i]) < 1e-3;
+    }
+    assertTrue(output);
+  }
+
+  @Test
+  public void test_step() {
+    double[] fitness = tuner.step(4);
+    assertTrue(
+      fitness.length == 8 &&
+      tuner.getGeneration() == 1 &&
+      tuner.getBestFitness() == Arrays.stream(fitness).max().getAsDouble() &&
+      tuner.getBestWeights() != null
+    );
+  }
+
+  @Test
+  public void test_checkpoint() throws IOException {
+    File file = File.createTempFile("tuner", ".properties");
+    file.deleteOnExit();
+    Path path = file.toPath();
+    tuner.step(4);
+    tuner.save(path);
+    WeightTuner resumed = new WeightTuner(path, 1);
+    boolean output =
+      resumed.getGeneration() == 1 &&
+      resumed.getSigma() == tuner.getSigma() &&
+      resumed.getBestFitness() == tuner.getBestFitness() &&
+      Arrays.equals(resumed.getWeights(), tuner.getWeights()) &&
+      Arrays.deepEquals(resumed.sample(), tuner.sample());
+    resumed.shutdown();
+    Files.deleteIfExists(path);
+    assertTrue(output);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void test_updateException() {
+    tuner.update(new double[8]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_updateLengthException() {
+    tuner.sample();
+    tuner.update(new double[4]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_constructorException() {
+    new WeightTuner(new float[3], 0.3, 8, 0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_populationException() {
+    new WeightTuner(HeuristicEvaluator.getDefaultWeights(), 0.3, 2, 0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_checkpointException() throws IOException {
+    File file = File.createTempFile("tuner", ".properties");
+    file.deleteOnExit();
+    Files.write(file.toPath(), "seed=1\n".getBytes());
+    new WeightTuner(file.toPath(), 1);
+  }
+}
@@ -18,9 +18,27 @@ import src.model.ScoreT;
 @Suite.SuiteClasses(
   {
     TestBoardT.class,
+    TestBitBoard.class,
     TestScoreT.class,
     TestBoardManager.class,
+    TestBitBoardManager.class,
+    TestBitBoard3.class,
+    TestBoardSymmetry.class,
     TestController.class,
+    TestGameSession.class,
+    TestSimulationRunner.class,
+    TestExpectimaxAgent.class,
+    TestParallelExpectimaxAgent.class,
+    TestBeamSearchAgent.class,
+    TestTranspositionTable.class,
+    TestTablebase.class,
+    TestHeuristicEvaluator.class,
+    TestWeightTuner.class,
+    TestEvaluationCache.class,
+    TestMctsAgent.class,
+    TestNTupleNetwork.class,
+    TestReplayRecorder.class,
+    TestBatchMoveEngine.class,
   }
 )
 public class UnitTests {